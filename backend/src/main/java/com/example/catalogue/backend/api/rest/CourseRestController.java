@@ -1,58 +1,182 @@
 package com.example.catalogue.backend.api.rest;
 
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.search.CourseFuzzyIndex;
+import com.example.catalogue.backend.search.CourseSuggester;
+import com.example.catalogue.backend.service.CatalogueVersion;
 import com.example.catalogue.backend.service.CourseService;
+import com.example.catalogue.backend.service.CourseSort;
+import com.example.catalogue.backend.service.DuplicatePolicy;
 import com.example.catalogue.backend.util.CourseConverter;
+import com.example.catalogue.backend.util.CursorCodec;
 import com.example.catalogue.common.model.Course;
+import com.example.catalogue.common.model.CourseFacets;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 @RestController
+@Validated
 @RequestMapping("/courses/")
 @Tag(name = "Course Catalogue Controller", description = "This REST controller provides services to manage courses in the course catalogue application")
 public class CourseRestController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private static final int EXPORT_FLUSH_INTERVAL = 100;
+
+    private static final String SORT_PATTERN = "id(,asc)?|name(,asc)?|author(,asc)?|rating(,desc)?";
+
     private final CourseService courseService;
 
+    private final CatalogueVersion catalogueVersion;
+
+    private final ObjectWriter exportWriter;
+
     @Autowired
-    public CourseRestController(CourseService courseService) {
+    public CourseRestController(CourseService courseService, CatalogueVersion catalogueVersion, ObjectMapper objectMapper) {
         this.courseService = courseService;
+        this.catalogueVersion = catalogueVersion;
+        this.exportWriter = objectMapper.writerFor(Course.class)
+                .withRootValueSeparator("")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @GetMapping
-    @ResponseStatus(code = HttpStatus.OK)
-    @Operation(summary = "Provides all courses available in the course catalogue application")
-    public Iterable<Course> getAllCourses() {
-        var courses = courseService.getAllCourses();
-        return StreamSupport.stream(courses.spliterator(), false)
+    @Operation(summary = "Provides a page of courses available in the course catalogue application, ordered by id or by " +
+            "sort=rating,desc|name|author. The cursor of the next page is returned in the X-Next-Cursor and Link headers")
+    public ResponseEntity<List<Course>> getAllCourses(@RequestParam(required = false) String after,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      @RequestParam(required = false) @Pattern(regexp = SORT_PATTERN) String sort,
+                                                      WebRequest request) {
+        if (notModified(request, catalogueVersion.tag())) {
+            return null;
+        }
+        Slice<CourseEntity> page;
+        String nextCursor;
+        if (sort == null) {
+            page = courseService.getCoursesAfter(CursorCodec.decode(after), limit);
+            nextCursor = CursorCodec.nextCursor(page);
+        } else {
+            var courseSort = toCourseSort(sort);
+            var cursor = CursorCodec.decode(after, courseSort);
+            page = courseService.getCoursesAfter(courseSort, cursor, limit);
+            nextCursor = CursorCodec.nextCursor(page, courseSort, cursor);
+        }
+        var courses = page.getContent().stream()
                 .map(CourseConverter::toModel)
                 .collect(Collectors.toList());
+
+        return withNextCursor(nextCursor).body(courses);
+    }
+
+    @GetMapping(value = "export", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Streams every course in the course catalogue application as newline-delimited JSON, ordered by id")
+    public ResponseEntity<StreamingResponseBody> exportCourses(WebRequest request) {
+        if (notModified(request, catalogueVersion.tag())) {
+            return null;
+        }
+        StreamingResponseBody body = outputStream -> {
+            try (var generator = exportWriter.createGenerator(outputStream)) {
+                var written = new int[1];
+                courseService.exportCourses(course -> {
+                    try {
+                        exportWriter.writeValue(generator, CourseConverter.toModel(course));
+                        generator.writeRaw('\n');
+                        if (++written[0] % EXPORT_FLUSH_INTERVAL == 1) {
+                            generator.flush();
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
     }
 
     @GetMapping("{id}")
-    @ResponseStatus(code = HttpStatus.OK)
     @Operation(summary = "Provides course details for the supplied course id from the course catalogue application")
-    public Course getCourseById(@PathVariable("id") Long courseId) {
+    public Course getCourseById(@PathVariable("id") Long courseId, WebRequest request) {
         var course = courseService.getCourseById(courseId);
+        if (notModified(request, course.getId() + "." + course.getVersion())) {
+            return null;
+        }
         return CourseConverter.toModel(course);
     }
 
+    @GetMapping("{id}/related")
+    @Operation(summary = "Provides the k courses most similar to the supplied course by name, category and description, " +
+            "most similar first")
+    public List<Course> getRelatedCourses(@PathVariable("id") Long courseId,
+                                          @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(100) Integer k,
+                                          WebRequest request) {
+        if (notModified(request, catalogueVersion.tag())) {
+            return null;
+        }
+        return courseService.getRelatedCourses(courseId, k).stream()
+                .map(CourseConverter::toModel)
+                .collect(Collectors.toList());
+    }
+
     @PostMapping
     @ResponseStatus(code = HttpStatus.CREATED)
-    @Operation(summary = "Creates a new course in the course catalogue application")
-    public Course createCourse(@Valid @RequestBody Course course) {
+    @Operation(summary = "Creates a new course in the course catalogue application. Near duplicates of stored courses " +
+            "are stored, logged or rejected with 409 as the duplicates parameter says, the configured policy by default")
+    public Course createCourse(@Valid @RequestBody Course course,
+                               @RequestParam(required = false) @Pattern(regexp = "allow|flag|reject") String duplicates) {
         var courseEntity = CourseConverter.toEntity(course);
-        var savedCourse = courseService.createCourse(courseEntity);
+        var savedCourse = duplicates == null
+                ? courseService.createCourse(courseEntity)
+                : courseService.createCourse(courseEntity, DuplicatePolicy.valueOf(duplicates.toUpperCase(Locale.ROOT)));
         return CourseConverter.toModel(savedCourse);
     }
 
+    @PostMapping("batch")
+    @ResponseStatus(code = HttpStatus.CREATED)
+    @Operation(summary = "Creates the supplied courses in the course catalogue application in one transaction and returns their ids. " +
+            "Near duplicates of stored courses or of each other are handled as for a single course")
+    public List<Long> createCourses(@NotEmpty @RequestBody List<@Valid Course> courses,
+                                    @RequestParam(required = false) @Pattern(regexp = "allow|flag|reject") String duplicates) {
+        var courseEntities = courses.stream()
+                .map(CourseConverter::toEntity)
+                .collect(Collectors.toList());
+        return duplicates == null
+                ? courseService.createCourses(courseEntities)
+                : courseService.createCourses(courseEntities, DuplicatePolicy.valueOf(duplicates.toUpperCase(Locale.ROOT)));
+    }
+
     @PutMapping("{id}")
     @ResponseStatus(code = HttpStatus.NO_CONTENT)
     @Operation(summary = "Updates the course details in the course catalogue application for the supplied course id")
@@ -79,15 +203,128 @@ public class CourseRestController {
     }
 
     @GetMapping("/search")
-    @ResponseStatus(code = HttpStatus.OK)
-    @Operation(summary = "Search similar courses based on provided parameters from the course catalogue application")
-    public Iterable<Course> searchCourses(@RequestParam(required = false, defaultValue = "") String name,
-                                          @RequestParam(required = false, defaultValue = "") String category,
-                                          @RequestParam(required = false, defaultValue = "0") Integer rating) {
+    @Operation(summary = "Search similar courses based on provided parameters from the course catalogue application, " +
+            "ordered by id or by sort=rating,desc|name|author. With sort, limit or after, a page of at most limit courses, " +
+            "catalogue.pagination.default-page-size by default, is returned and the cursor of the next page in the " +
+            "X-Next-Cursor and Link headers; with fuzzy=true, name and author words within maxEdits typos of the name words match too, closest first")
+    public ResponseEntity<List<Course>> searchCourses(@RequestParam(required = false, defaultValue = "") String name,
+                                                      @RequestParam(required = false, defaultValue = "") String category,
+                                                      @RequestParam(required = false, defaultValue = "0") Integer rating,
+                                                      @RequestParam(required = false, defaultValue = "false") boolean fuzzy,
+                                                      @RequestParam(required = false, defaultValue = "" + CourseFuzzyIndex.MAX_EDITS)
+                                                      @Min(0) @Max(CourseFuzzyIndex.MAX_EDITS) Integer maxEdits,
+                                                      @RequestParam(required = false) String after,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      @RequestParam(required = false) @Pattern(regexp = SORT_PATTERN) String sort,
+                                                      WebRequest request) {
+        if (notModified(request, catalogueVersion.tag())) {
+            return null;
+        }
+        if (fuzzy) {
+            return ResponseEntity.ok(courseService.searchSimilarCoursesFuzzy(name, category, rating, maxEdits, limit).stream()
+                    .map(CourseConverter::toModel)
+                    .collect(Collectors.toList()));
+        }
+        if (sort != null || limit != null || after != null) {
+            var courseSort = sort == null ? CourseSort.ID : toCourseSort(sort);
+            var cursor = CursorCodec.decode(after, courseSort);
+            var page = courseService.searchSimilarCourses(name, category, rating, courseSort, cursor, limit);
+            var courses = page.getContent().stream()
+                    .map(CourseConverter::toModel)
+                    .collect(Collectors.toList());
+            return withNextCursor(CursorCodec.nextCursor(page, courseSort, cursor)).body(courses);
+        }
         var result = courseService.searchSimilarCourses(name, category, rating);
-        return StreamSupport.stream(result.spliterator(), false)
+        return ResponseEntity.ok(StreamSupport.stream(result.spliterator(), false)
+                .map(CourseConverter::toModel)
+                .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/top")
+    @Operation(summary = "Provides the n best rated courses of a category, or of the whole course catalogue application " +
+            "when no category is supplied")
+    public List<Course> getTopCourses(@RequestParam(required = false, defaultValue = "") String category,
+                                      @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(100) Integer n,
+                                      WebRequest request) {
+        if (notModified(request, catalogueVersion.tag())) {
+            return null;
+        }
+        return courseService.getTopCourses(category, n).stream()
+                .map(CourseConverter::toModel)
+                .collect(Collectors.toList());
+    }
+
+    @GetMapping("/search/text")
+    @Operation(summary = "Full-text search over course name, category, description and author from the course catalogue " +
+            "application, best matches first")
+    public List<Course> searchCoursesByText(@RequestParam String q,
+                                            @RequestParam(required = false, defaultValue = "0") Integer rating,
+                                            @RequestParam(required = false) Integer limit,
+                                            WebRequest request) {
+        if (notModified(request, catalogueVersion.tag())) {
+            return null;
+        }
+        return courseService.searchCoursesByText(q, rating, limit).stream()
                 .map(CourseConverter::toModel)
                 .collect(Collectors.toList());
     }
 
+    @GetMapping("/facets")
+    @Operation(summary = "Provides the number of courses per category and per rating in the course catalogue application, " +
+            "optionally only of courses whose name contains the supplied name")
+    public CourseFacets getFacets(@RequestParam(required = false, defaultValue = "") String name, WebRequest request) {
+        if (notModified(request, catalogueVersion.tag())) {
+            return null;
+        }
+        return courseService.getFacets(name);
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggests course names, categories or authors starting with the supplied prefix from the course " +
+            "catalogue application, best rated first")
+    public List<String> suggest(@RequestParam(required = false, defaultValue = "") String prefix,
+                                @RequestParam(required = false, defaultValue = "name") @Pattern(regexp = "name|category|author") String field,
+                                @RequestParam(required = false) Integer limit,
+                                WebRequest request) {
+        if (notModified(request, catalogueVersion.tag())) {
+            return null;
+        }
+        return courseService.suggest(CourseSuggester.Field.valueOf(field.toUpperCase(Locale.ROOT)), prefix, limit);
+    }
+
+    private static CourseSort toCourseSort(String sort) {
+        return CourseSort.valueOf(sort.split(",")[0].toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Ok response carrying {@code nextCursor}, if any, in the {@value #NEXT_CURSOR_HEADER} header and as the
+     * {@code next} link of the current request continued {@code after} it.
+     */
+    private static ResponseEntity.BodyBuilder withNextCursor(String nextCursor) {
+        var response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            var nextLink = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", nextCursor)
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, nextCursor)
+                    .header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+        }
+        return response;
+    }
+
+    /**
+     * Answers a matching {@code If-None-Match} with 304 before any query or serialisation runs. Collection
+     * resources are tagged with the catalogue version, which moves only after every index has applied a change
+     * ({@code CourseChangedEvent.VERSION_ORDER}), so a new tag never goes out with a stale body. JSON, CBOR and
+     * Smile bodies of the same version differ, so the tag is qualified by the {@code Accept} header the
+     * representation is negotiated from, and responses carry {@code Vary: Accept}.
+     */
+    private static boolean notModified(WebRequest request, String tag) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        String representation = accept == null ? "" : "-" + Integer.toHexString(accept.hashCode());
+        return request.checkNotModified("\"" + tag + representation + "\"");
+    }
 }
@@ -2,17 +2,21 @@ package com.example.catalogue.backend.api.webservice;
 
 import com.example.catalogue.backend.api.webservice.autogen.*;
 import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.service.CourseCursor;
 import com.example.catalogue.backend.service.CourseService;
+import com.example.catalogue.backend.service.CourseSort;
+import com.example.catalogue.backend.util.CourseMapper;
+import com.example.catalogue.backend.util.CursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
-import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.endpoint.annotation.Endpoint;
 import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
 import org.springframework.ws.server.endpoint.annotation.RequestPayload;
 import org.springframework.ws.server.endpoint.annotation.ResponsePayload;
 
 import java.util.List;
-import java.util.stream.StreamSupport;
 
 
 @Endpoint
@@ -21,25 +25,40 @@ public class CourseEndpoint {
 
     private CourseService courseService;
 
+    private CourseXmlMarshallerPool courseMarshallerPool;
+
     @Autowired
-    public CourseEndpoint(CourseService courseService) {
+    public CourseEndpoint(CourseService courseService, CourseXmlMarshallerPool courseMarshallerPool) {
         this.courseService = courseService;
+        this.courseMarshallerPool = courseMarshallerPool;
     }
 
     @PayloadRoot(namespace = WebServiceConfig.NAMESPACE_URI, localPart = "getAllCoursesRequest")
     @ResponsePayload
-    @Operation(summary = "Get all courses", description = "Get a list of all courses.")
+    @Operation(summary = "Get all courses", description = "Get a page of at most pageSize courses ordered by sortBy, continued with the returned nextPageToken until maxResults courses have been returned.")
     public GetAllCoursesResponse getAlCourses(@RequestPayload GetAllCoursesRequest request) {
-        Iterable<CourseEntity> courses = courseService.getAllCourses();
-        List<CourseXml> courseXmlList = StreamSupport.stream(courses.spliterator(), false)
-                .map(this::convertCourseEntityToCourseXml)
-                .toList();
+        CourseSort sort = toCourseSort(request.getSortBy());
+        CourseCursor after = CursorCodec.decode(request.getPageToken(), sort);
+        Integer limit = limit(request.getPageSize(), request.getMaxResults(), after);
 
         GetAllCoursesResponse response = new GetAllCoursesResponse();
-        response.getCourses().addAll(courseXmlList);
+        if (limit == null || limit > 0) {
+            Slice<CourseEntity> page = courseService.getCoursesAfter(sort, after, limit);
+            response.getCourses().addAll(page.getContent().stream()
+                    .map(this::convertCourseEntityToCourseXml)
+                    .toList());
+            response.setNextPageToken(nextPageToken(page, sort, after, request.getMaxResults()));
+        }
+        response.setTotalCount(courseService.countCourses());
         return response;
     }
 
+    @PayloadRoot(namespace = WebServiceConfig.NAMESPACE_URI, localPart = "exportCoursesRequest")
+    @Operation(summary = "Export all courses", description = "Stream every course ordered by id in one response, read from a database cursor.")
+    public void exportCourses(@RequestPayload ExportCoursesRequest request, MessageContext messageContext) {
+        StreamingSoapMessage.setPayload(messageContext.getResponse(), new CourseExportPayload(courseService, courseMarshallerPool));
+    }
+
     @PayloadRoot(namespace = WebServiceConfig.NAMESPACE_URI, localPart = "getCourseByIdRequest")
     @ResponsePayload
     @Operation(summary = "Get course by ID", description = "Get a course by its ID.")
@@ -64,6 +83,19 @@ public class CourseEndpoint {
         return response;
     }
 
+    @PayloadRoot(namespace = WebServiceConfig.NAMESPACE_URI, localPart = "createCoursesRequest")
+    @ResponsePayload
+    @Operation(summary = "Create courses", description = "Create new courses in one transaction and return their ids.")
+    public CreateCoursesResponse createCourses(@RequestPayload CreateCoursesRequest request) {
+        List<CourseEntity> courses = request.getCourses().stream()
+                .map(this::convertCourseXmlToCourseEntity)
+                .toList();
+
+        CreateCoursesResponse response = new CreateCoursesResponse();
+        response.getCourseIds().addAll(courseService.createCourses(courses));
+        return response;
+    }
+
     @PayloadRoot(namespace = WebServiceConfig.NAMESPACE_URI, localPart = "updateCourseRequest")
     @ResponsePayload
     @Operation(summary = "Update course", description = "Update an existing course.")
@@ -100,28 +132,54 @@ public class CourseEndpoint {
 
     @PayloadRoot(namespace = WebServiceConfig.NAMESPACE_URI, localPart = "searchCoursesRequest")
     @ResponsePayload
-    @Operation(summary = "Search similar courses", description = "Search similar courses based on provided parameters.")
+    @Operation(summary = "Search similar courses", description = "Search similar courses based on provided parameters, paged like getAllCoursesRequest.")
     public SearchCoursesResponse searchCourses(@RequestPayload SearchCoursesRequest request) {
-        Iterable<CourseEntity> result = courseService.searchSimilarCourses(request.getName(), request.getCategory(), request.getRating());
-        List<CourseXml> courseXmlList = StreamSupport.stream(result.spliterator(), false)
-                .map(this::convertCourseEntityToCourseXml)
-                .toList();
+        CourseSort sort = toCourseSort(request.getSortBy());
+        CourseCursor after = CursorCodec.decode(request.getPageToken(), sort);
+        Integer limit = limit(request.getPageSize(), request.getMaxResults(), after);
 
         SearchCoursesResponse response = new SearchCoursesResponse();
-        response.getCourses().addAll(courseXmlList);
+        if (limit == null || limit > 0) {
+            Slice<CourseEntity> page = courseService.searchSimilarCourses(request.getName(), request.getCategory(), request.getRating(), sort, after, limit);
+            response.getCourses().addAll(page.getContent().stream()
+                    .map(this::convertCourseEntityToCourseXml)
+                    .toList());
+            response.setNextPageToken(nextPageToken(page, sort, after, request.getMaxResults()));
+        }
+        response.setTotalCount(courseService.countSimilarCourses(request.getName(), request.getCategory(), request.getRating()));
         return response;
     }
 
+    private static CourseSort toCourseSort(CourseSortType sortBy) {
+        return sortBy == null ? CourseSort.ID : CourseSort.valueOf(sortBy.name());
+    }
+
+    /**
+     * Page size capped by what is left of {@code maxResults} after the courses already returned, {@code 0} once
+     * it is used up.
+     */
+    private static Integer limit(Integer pageSize, Integer maxResults, CourseCursor after) {
+        if (maxResults == null) {
+            return pageSize;
+        }
+        int remaining = Math.max(maxResults - (after == null ? 0 : after.offset()), 0);
+        return pageSize == null ? remaining : Math.min(pageSize, remaining);
+    }
+
+    private static String nextPageToken(Slice<CourseEntity> page, CourseSort sort, CourseCursor after, Integer maxResults) {
+        int returned = (after == null ? 0 : after.offset()) + page.getNumberOfElements();
+        if (maxResults != null && returned >= maxResults) {
+            return null;
+        }
+        return CursorCodec.nextCursor(page, sort, after);
+    }
+
     private CourseXml convertCourseEntityToCourseXml(CourseEntity course) {
-        CourseXml courseXml = new CourseXml();
-        BeanUtils.copyProperties(course, courseXml);
-        return courseXml;
+        return CourseMapper.INSTANCE.toXml(course);
     }
 
     private CourseEntity convertCourseXmlToCourseEntity(CourseXml courseXml) {
-        CourseEntity course = new CourseEntity();
-        BeanUtils.copyProperties(courseXml, course);
-        return course;
+        return CourseMapper.INSTANCE.toEntity(courseXml);
     }
 }
 
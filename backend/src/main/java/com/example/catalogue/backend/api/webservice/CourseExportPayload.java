@@ -0,0 +1,64 @@
+package com.example.catalogue.backend.api.webservice;
+
+import com.example.catalogue.backend.api.webservice.autogen.CourseXml;
+import com.example.catalogue.backend.service.CourseService;
+import com.example.catalogue.backend.util.CourseMapper;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import org.springframework.oxm.MarshallingFailureException;
+import org.springframework.ws.stream.StreamingPayload;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * {@code exportCoursesResponse} written one {@code courses} element at a time while the rows are read from a
+ * database cursor, so the response never exists as a whole in memory.
+ */
+class CourseExportPayload implements StreamingPayload {
+
+    static final QName NAME = new QName(WebServiceConfig.NAMESPACE_URI, "exportCoursesResponse");
+
+    private static final QName COURSES = new QName(WebServiceConfig.NAMESPACE_URI, "courses");
+
+    private final CourseService courseService;
+
+    private final CourseXmlMarshallerPool marshallers;
+
+    CourseExportPayload(CourseService courseService, CourseXmlMarshallerPool marshallers) {
+        this.courseService = courseService;
+        this.marshallers = marshallers;
+    }
+
+    @Override
+    public QName getName() {
+        return NAME;
+    }
+
+    @Override
+    public void writeTo(XMLStreamWriter writer) throws XMLStreamException {
+        Marshaller marshaller;
+        try {
+            marshaller = marshallers.borrow();
+        } catch (JAXBException ex) {
+            throw new MarshallingFailureException("Could not create marshaller", ex);
+        }
+        try {
+            writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, NAME.getLocalPart(), NAME.getNamespaceURI());
+            writer.writeDefaultNamespace(NAME.getNamespaceURI());
+            courseService.exportCourses(course -> {
+                try {
+                    marshaller.marshal(new JAXBElement<>(COURSES, CourseXml.class, CourseMapper.INSTANCE.toXml(course)), writer);
+                } catch (JAXBException ex) {
+                    throw new MarshallingFailureException("Could not marshal course " + course.getId(), ex);
+                }
+            });
+            writer.writeEndElement();
+        } finally {
+            marshallers.release(marshaller);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.catalogue.backend.api.webservice;
+
+import com.example.catalogue.backend.api.webservice.autogen.CourseXml;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded pool of fragment marshallers for {@link CourseXml}. Marshallers are not thread-safe and cost more to
+ * create than to reuse; a pool rather than a {@code ThreadLocal} keeps that true on virtual threads.
+ */
+@Component
+public class CourseXmlMarshallerPool {
+
+    private final JAXBContext context;
+
+    private final BlockingQueue<Marshaller> idle;
+
+    @Autowired
+    public CourseXmlMarshallerPool(@Value("${catalogue.soap.marshaller-pool.max-idle:16}") int maxIdle) throws JAXBException {
+        this.context = JAXBContext.newInstance(CourseXml.class);
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    public Marshaller borrow() throws JAXBException {
+        Marshaller marshaller = idle.poll();
+        if (marshaller == null) {
+            marshaller = context.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        }
+        return marshaller;
+    }
+
+    public void release(Marshaller marshaller) {
+        idle.offer(marshaller);
+    }
+}
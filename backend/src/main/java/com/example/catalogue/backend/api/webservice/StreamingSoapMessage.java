@@ -0,0 +1,213 @@
+package com.example.catalogue.backend.api.webservice;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.xml.soap.MessageFactory;
+import jakarta.xml.soap.MimeHeader;
+import jakarta.xml.soap.SOAPEnvelope;
+import jakarta.xml.soap.SOAPException;
+import jakarta.xml.soap.SOAPHeader;
+import jakarta.xml.soap.SOAPMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.soap.SoapEnvelope;
+import org.springframework.ws.soap.saaj.SaajSoapMessage;
+import org.springframework.ws.soap.saaj.SaajSoapMessageException;
+import org.springframework.ws.stream.StreamingPayload;
+import org.springframework.ws.transport.TransportOutputStream;
+import org.springframework.ws.transport.context.TransportContext;
+import org.springframework.ws.transport.context.TransportContextHolder;
+import org.springframework.ws.transport.http.HttpServletConnection;
+import org.w3c.dom.Document;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * SAAJ message that can keep a {@link StreamingPayload} aside and write it straight onto the response stream,
+ * instead of first building it as a DOM inside the SAAJ body. Only operations that call {@link #setPayload} stream;
+ * this is not a {@code StreamingWebServiceMessage}, so Spring-WS marshals every other response into the body as
+ * usual and a marshalling error there still becomes a SOAP fault.
+ * <p>
+ * While a payload is pending, the envelope answers fault checks from the still empty SAAJ body, and copies the
+ * payload into the body before anything else reads or changes it, e.g. a test matcher. The same happens when the
+ * message carries SOAP headers or attachments. An error while a payload is streamed becomes a server fault as long as
+ * nothing was flushed yet; after that it is rethrown and the client is left with an envelope that is not closed.
+ */
+@Slf4j
+public class StreamingSoapMessage extends SaajSoapMessage {
+
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private static final String[] CONTENT_LENGTH = {"Content-Length"};
+
+    private static final Set<String> PASS_THROUGH_METHODS = Set.of("hasFault", "getFault", "getName", "getHeader");
+
+    private StreamingPayload streamingPayload;
+
+    public StreamingSoapMessage(SOAPMessage soapMessage, MessageFactory messageFactory) {
+        super(soapMessage, messageFactory);
+    }
+
+    /**
+     * Streams {@code payload} if {@code message} supports it, otherwise writes it into the message body right away.
+     */
+    public static void setPayload(WebServiceMessage message, StreamingPayload payload) {
+        if (message instanceof StreamingSoapMessage streamingMessage) {
+            streamingMessage.setStreamingPayload(payload);
+        } else {
+            writePayload(message, payload);
+        }
+    }
+
+    /**
+     * Payload still waiting to be streamed, {@code null} if there is none or it was already copied into the body.
+     */
+    public StreamingPayload getStreamingPayload() {
+        return streamingPayload;
+    }
+
+    public void setStreamingPayload(StreamingPayload payload) {
+        this.streamingPayload = payload;
+    }
+
+    @Override
+    public SoapEnvelope getEnvelope() {
+        SoapEnvelope envelope = super.getEnvelope();
+        return streamingPayload == null ? envelope : pendingView(envelope);
+    }
+
+    @Override
+    public Document getDocument() {
+        materialize();
+        return super.getDocument();
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        if (streamingPayload == null || !canStream()) {
+            materialize();
+            super.writeTo(outputStream);
+            return;
+        }
+        try {
+            SOAPMessage message = getSaajMessage();
+            message.saveChanges();
+            if (outputStream instanceof TransportOutputStream transportOutputStream) {
+                // SAAJ sizes the empty envelope, the streamed one is sent chunked
+                for (Iterator<MimeHeader> headers = message.getMimeHeaders().getNonMatchingHeaders(CONTENT_LENGTH); headers.hasNext(); ) {
+                    MimeHeader header = headers.next();
+                    transportOutputStream.addHeader(header.getName(), header.getValue());
+                }
+            }
+            SOAPEnvelope envelope = message.getSOAPPart().getEnvelope();
+            String prefix = envelope.getPrefix();
+            String namespace = envelope.getNamespaceURI();
+
+            XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(outputStream, StandardCharsets.UTF_8.name());
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            writer.writeStartElement(prefix, "Envelope", namespace);
+            writer.writeNamespace(prefix, namespace);
+            writer.writeStartElement(prefix, "Body", namespace);
+            streamingPayload.writeTo(writer);
+            writer.writeEndElement();
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+        } catch (SOAPException | XMLStreamException ex) {
+            if (!writeFault(outputStream, ex)) {
+                throw new SaajSoapMessageException("Could not write message to OutputStream: " + ex.getMessage(), ex);
+            }
+        } catch (RuntimeException ex) {
+            if (!writeFault(outputStream, ex)) {
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Replaces a stream that failed before anything was flushed with a server fault, since the transport completes
+     * whatever is buffered once the connection is closed. Returns {@code false} if the response is already committed.
+     */
+    private boolean writeFault(OutputStream outputStream, Exception ex) throws IOException {
+        HttpServletResponse response = servletResponse();
+        if (response == null || response.isCommitted()) {
+            return false;
+        }
+        log.error("Could not stream {}, answering with a fault", streamingPayload.getName(), ex);
+        response.resetBuffer();
+        response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        streamingPayload = null;
+        getSoapBody().addServerOrReceiverFault(StringUtils.hasLength(ex.getMessage()) ? ex.getMessage() : ex.toString(), Locale.ENGLISH);
+        super.writeTo(outputStream);
+        return true;
+    }
+
+    private static HttpServletResponse servletResponse() {
+        TransportContext context = TransportContextHolder.getTransportContext();
+        return context != null && context.getConnection() instanceof HttpServletConnection connection
+                ? connection.getHttpServletResponse()
+                : null;
+    }
+
+    private boolean canStream() {
+        try {
+            SOAPMessage message = getSaajMessage();
+            SOAPHeader header = message.getSOAPHeader();
+            return message.countAttachments() == 0 && (header == null || !header.hasChildNodes());
+        } catch (SOAPException ex) {
+            throw new SaajSoapMessageException("Could not access header: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Proxy of the envelope, or of its body, that materializes the pending payload before delegating any call
+     * other than a fault check or header access.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T pendingView(T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (streamingPayload != null && method.getName().equals("getBody")) {
+                return pendingView(((SoapEnvelope) target).getBody());
+            }
+            if (!PASS_THROUGH_METHODS.contains(method.getName())) {
+                materialize();
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        };
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), ClassUtils.getAllInterfaces(target), handler);
+    }
+
+    private void materialize() {
+        StreamingPayload payload = streamingPayload;
+        if (payload != null) {
+            streamingPayload = null;
+            writePayload(this, payload);
+        }
+    }
+
+    private static void writePayload(WebServiceMessage message, StreamingPayload payload) {
+        try {
+            XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(message.getPayloadResult());
+            payload.writeTo(writer);
+            writer.flush();
+        } catch (XMLStreamException ex) {
+            throw new SaajSoapMessageException("Could not write payload: " + ex.getMessage(), ex);
+        }
+    }
+}
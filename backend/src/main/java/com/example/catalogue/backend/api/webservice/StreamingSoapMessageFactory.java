@@ -0,0 +1,16 @@
+package com.example.catalogue.backend.api.webservice;
+
+import org.springframework.ws.soap.saaj.SaajSoapMessage;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+/**
+ * SAAJ message factory whose response messages are {@link StreamingSoapMessage}s, so an operation can opt into
+ * streaming its response. Requests are parsed as usual.
+ */
+public class StreamingSoapMessageFactory extends SaajSoapMessageFactory {
+
+    @Override
+    public SaajSoapMessage createWebServiceMessage() {
+        return new StreamingSoapMessage(super.createWebServiceMessage().getSaajMessage(), getMessageFactory());
+    }
+}
@@ -36,6 +36,11 @@ public class WebServiceConfig extends WsConfigurerAdapter {
         return wsdl11Definition;
     }
 
+    @Bean(MessageDispatcherServlet.DEFAULT_MESSAGE_FACTORY_BEAN_NAME)
+    public StreamingSoapMessageFactory messageFactory() {
+        return new StreamingSoapMessageFactory();
+    }
+
     @Bean
     public XsdSchema coursesSchema() {
         return new SimpleXsdSchema(new ClassPathResource("courses.xsd"));
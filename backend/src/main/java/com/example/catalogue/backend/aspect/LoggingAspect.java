@@ -1,36 +1,120 @@
 package com.example.catalogue.backend.aspect;
 
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Traces {@code CourseService} calls. Nothing is rendered unless INFO is enabled for this logger and the call is sampled;
+ * parameters and results are rendered lazily by the logger, and collection results are summarised as their
+ * size plus the first {@code catalogue.tracing.max-elements} elements.
+ * <p>
+ * {@code catalogue.tracing.sample-rate} is the share of calls traced by default, {@code catalogue.tracing.sample-rates}
+ * overrides it per method, e.g. {@code getAllCourses:0.01,searchSimilarCourses:0.1}.
+ */
 @Aspect
 @Component
 @Slf4j
 public class LoggingAspect {
 
-    @Before("execution(* com.example.catalogue.backend.service.*.*(..))")
-    public void logBefore(JoinPoint joinPoint) {
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
+    private final double defaultSampleRate;
 
-        Object[] args = joinPoint.getArgs();
-        StringJoiner params = new StringJoiner(", ", "(", ")");
-        Arrays.stream(args).map(Object::toString).forEach(params::add);
+    private final Map<String, Double> sampleRates;
 
-        log.info("Before {}.{}() - Parameters: {}", className, methodName, params);
+    private final int maxElements;
+
+    @Autowired
+    public LoggingAspect(@Value("${catalogue.tracing.sample-rate:1.0}") double defaultSampleRate,
+                         @Value("${catalogue.tracing.sample-rates:}") String sampleRates,
+                         @Value("${catalogue.tracing.max-elements:3}") int maxElements) {
+        this.defaultSampleRate = defaultSampleRate;
+        this.sampleRates = parseSampleRates(sampleRates);
+        this.maxElements = maxElements;
     }
 
-    @AfterReturning(pointcut = "execution(* com.example.catalogue.backend.service.*.*(..))", returning = "result")
-    public void logAfterReturning(JoinPoint joinPoint, Object result) {
-        String className = joinPoint.getTarget().getClass().getSimpleName();
+    @Around("execution(* com.example.catalogue.backend.service.CourseService+.*(..))")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!log.isInfoEnabled()) {
+            return joinPoint.proceed();
+        }
         String methodName = joinPoint.getSignature().getName();
-        log.info("After {} is called. Result: {}", className + "." + methodName, result);
+        double sampleRate = sampleRates.getOrDefault(methodName, defaultSampleRate);
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return joinPoint.proceed();
+        }
+
+        String className = joinPoint.getTarget().getClass().getSimpleName();
+        log.info("Before {}.{}() - Parameters: {}", className, methodName, new Summary(joinPoint.getArgs(), maxElements));
+        Object result = joinPoint.proceed();
+        log.info("After {}.{} is called. Result: {}", className, methodName, new Summary(result, maxElements));
+        return result;
+    }
+
+    private static Map<String, Double> parseSampleRates(String sampleRates) {
+        Map<String, Double> rates = new HashMap<>();
+        for (String entry : StringUtils.commaDelimitedListToStringArray(sampleRates)) {
+            String[] methodAndRate = entry.split(":");
+            if (methodAndRate.length != 2) {
+                throw new IllegalArgumentException("Invalid catalogue.tracing.sample-rates entry: " + entry);
+            }
+            rates.put(methodAndRate[0].trim(), Double.parseDouble(methodAndRate[1].trim()));
+        }
+        return rates;
+    }
+
+    /**
+     * Renders a value only when the logger formats the message.
+     */
+    private record Summary(Object value, int maxElements) {
+
+        @Override
+        public String toString() {
+            if (value instanceof Object[] args) {
+                StringJoiner params = new StringJoiner(", ", "(", ")");
+                for (Object arg : args) {
+                    params.add(new Summary(arg, maxElements).toString());
+                }
+                return params.toString();
+            }
+            if (value instanceof Iterable<?> iterable) {
+                return summarize(iterable);
+            }
+            return String.valueOf(value);
+        }
+
+        private String summarize(Iterable<?> iterable) {
+            StringJoiner elements = new StringJoiner(", ", sizeOf(iterable) + " elements [", "]");
+            Iterator<?> iterator = iterable.iterator();
+            for (int i = 0; i < maxElements && iterator.hasNext(); i++) {
+                elements.add(String.valueOf(iterator.next()));
+            }
+            if (iterator.hasNext()) {
+                elements.add("...");
+            }
+            return elements.toString();
+        }
+
+        private static String sizeOf(Iterable<?> iterable) {
+            if (iterable instanceof Collection<?> collection) {
+                return String.valueOf(collection.size());
+            }
+            if (iterable instanceof Slice<?> slice) {
+                return String.valueOf(slice.getNumberOfElements());
+            }
+            return "?";
+        }
     }
 }
@@ -0,0 +1,213 @@
+package com.example.catalogue.backend.aspect;
+
+import com.example.catalogue.backend.api.webservice.StreamingSoapMessage;
+import com.example.catalogue.backend.api.webservice.autogen.CreateCoursesResponse;
+import com.example.catalogue.backend.api.webservice.autogen.GetAllCoursesResponse;
+import com.example.catalogue.backend.api.webservice.autogen.SearchCoursesResponse;
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.common.model.Course;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
+import org.springframework.ws.stream.StreamingPayload;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Times every {@code CourseService} method, {@code CourseRestController} handler and SOAP {@code @PayloadRoot}
+ * operation as {@value #TIMER_NAME} with a percentile histogram, tagged by layer, operation, outcome, exception
+ * and a bucket of the number of courses returned.
+ * <p>
+ * Ordered after the caching advice ({@code CacheConfig.ADVICE_ORDER}), so service timers sit inside the cache and
+ * record executions only; cache hits show up in the cache metrics instead.
+ * <p>
+ * A SOAP operation that leaves a streaming payload on its response, and a handler returning a
+ * {@link StreamingResponseBody}, are timed until that payload or body has been written.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class MetricsAspect {
+
+    public static final String TIMER_NAME = "catalogue.operation";
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.example.catalogue.backend.service.CourseService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service", joinPoint.getSignature().getName());
+    }
+
+    @Around("execution(* com.example.catalogue.backend.api.rest.CourseRestController.*(..))")
+    public Object timeRest(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "rest", joinPoint.getSignature().getName());
+    }
+
+    @Around("@annotation(payloadRoot)")
+    public Object timeSoap(ProceedingJoinPoint joinPoint, PayloadRoot payloadRoot) throws Throwable {
+        return time(joinPoint, "soap", payloadRoot.localPart());
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer, String operation) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(sample, layer, operation, "ERROR", e.getClass().getSimpleName(), "none");
+            throw e;
+        }
+        StreamingSoapMessage streamingResponse = streamingResponse(joinPoint.getArgs());
+        if (streamingResponse != null) {
+            streamingResponse.setStreamingPayload(new TimedPayload(streamingResponse.getStreamingPayload(), sample, layer, operation));
+            return result;
+        }
+        if (result instanceof ResponseEntity<?> response && response.getBody() instanceof StreamingResponseBody body) {
+            return new ResponseEntity<>(timedBody(body, sample, layer, operation), response.getHeaders(), response.getStatusCode());
+        }
+        stop(sample, layer, operation, "SUCCESS", "none", sizeBucket(result));
+        return result;
+    }
+
+    /**
+     * Streaming response body that stops the operation timer once it has been written.
+     */
+    private StreamingResponseBody timedBody(StreamingResponseBody body, Timer.Sample sample, String layer, String operation) {
+        return outputStream -> {
+            try {
+                body.writeTo(outputStream);
+                stop(sample, layer, operation, "SUCCESS", "none", "none");
+            } catch (IOException | RuntimeException e) {
+                stop(sample, layer, operation, "ERROR", e.getClass().getSimpleName(), "none");
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Response of the {@link MessageContext} argument if it still has a payload to stream, otherwise {@code null}.
+     */
+    private static StreamingSoapMessage streamingResponse(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof MessageContext messageContext && messageContext.hasResponse()
+                    && messageContext.getResponse() instanceof StreamingSoapMessage response
+                    && response.getStreamingPayload() != null) {
+                return response;
+            }
+        }
+        return null;
+    }
+
+    private void stop(Timer.Sample sample, String layer, String operation, String outcome, String exception, String size) {
+        sample.stop(Timer.builder(TIMER_NAME)
+                .description("Latency of catalogue operations")
+                .tag("layer", layer)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .tag("size", size)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * Coarse bucket of the number of courses in a result, {@code none} for results that carry no courses.
+     */
+    private static String sizeBucket(Object result) {
+        if (result instanceof CourseEntity || result instanceof Course) {
+            return bucket(1);
+        }
+        if (result instanceof ResponseEntity<?> response) {
+            return sizeBucket(response.getBody());
+        }
+        if (result instanceof Collection<?> collection) {
+            return bucket(collection.size());
+        }
+        if (result instanceof Slice<?> slice) {
+            return bucket(slice.getNumberOfElements());
+        }
+        if (result instanceof GetAllCoursesResponse response) {
+            return bucket(response.getCourses().size());
+        }
+        if (result instanceof SearchCoursesResponse response) {
+            return bucket(response.getCourses().size());
+        }
+        if (result instanceof CreateCoursesResponse response) {
+            return bucket(response.getCourseIds().size());
+        }
+        return "none";
+    }
+
+    private static String bucket(int size) {
+        if (size <= 1) {
+            return String.valueOf(size);
+        }
+        if (size <= 10) {
+            return "2-10";
+        }
+        if (size <= 100) {
+            return "11-100";
+        }
+        if (size <= 1000) {
+            return "101-1000";
+        }
+        return "1000+";
+    }
+
+    /**
+     * Streaming payload that stops the operation timer once it has been written.
+     */
+    private class TimedPayload implements StreamingPayload {
+
+        private final StreamingPayload payload;
+
+        private final Timer.Sample sample;
+
+        private final String layer;
+
+        private final String operation;
+
+        TimedPayload(StreamingPayload payload, Timer.Sample sample, String layer, String operation) {
+            this.payload = payload;
+            this.sample = sample;
+            this.layer = layer;
+            this.operation = operation;
+        }
+
+        @Override
+        public QName getName() {
+            return payload.getName();
+        }
+
+        @Override
+        public void writeTo(XMLStreamWriter streamWriter) throws XMLStreamException {
+            try {
+                payload.writeTo(streamWriter);
+                stop(sample, layer, operation, "SUCCESS", "none", "none");
+            } catch (RuntimeException | XMLStreamException e) {
+                stop(sample, layer, operation, "ERROR", e.getClass().getSimpleName(), "none");
+                throw e;
+            }
+        }
+    }
+}
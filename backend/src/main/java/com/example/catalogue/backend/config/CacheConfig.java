@@ -0,0 +1,79 @@
+package com.example.catalogue.backend.config;
+
+import com.example.catalogue.backend.service.CatalogueVersion;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Locale;
+
+/**
+ * Caffeine cache manager with the service-layer caches, each with its own size/TTL spec. Caches are registered up
+ * front so Actuator binds their hit, miss and eviction metrics. Cached courses are kept as detached copies, see
+ * {@link DetachedCourseCache}, and query results are weighed by the number of courses they hold. With
+ * {@code spring.cache.type} set to anything else, Boot's own cache configuration applies instead.
+ */
+@Configuration
+@EnableCaching(order = CacheConfig.ADVICE_ORDER)
+public class CacheConfig {
+
+    /**
+     * Caching advice runs ahead of {@code MetricsAspect}, so service timers only time executions, not cache hits.
+     */
+    public static final int ADVICE_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    public static final String COURSES_CACHE = "courses";
+
+    public static final String COURSE_QUERIES_CACHE = "courseQueries";
+
+    public static final String CATALOGUE_QUERY_KEY_GENERATOR = "catalogueQueryKeyGenerator";
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "caffeine", matchIfMissing = true)
+    CaffeineCacheManager cacheManager(@Value("${catalogue.cache.courses.spec}") String coursesSpec,
+                                      @Value("${catalogue.cache.course-queries.spec}") String courseQueriesSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new DetachedCourseCache(name, cache, isAllowNullValues());
+            }
+        };
+        cacheManager.registerCustomCache(COURSES_CACHE, Caffeine.from(coursesSpec).build());
+        cacheManager.registerCustomCache(COURSE_QUERIES_CACHE, weighed(courseQueriesSpec).build());
+        return cacheManager;
+    }
+
+    /**
+     * A spec bounded by {@code maximumWeight} counts courses rather than results, so one large result cannot hold
+     * as much memory as a thousand small ones.
+     */
+    private static Caffeine<Object, Object> weighed(String spec) {
+        Caffeine<Object, Object> caffeine = Caffeine.from(spec);
+        return spec.contains("maximumWeight") ? caffeine.weigher(DetachedCourseCache::weight) : caffeine;
+    }
+
+    /**
+     * Keys query results by catalogue version, method and arguments. String arguments are lower-cased because
+     * every cached query matches case-insensitively.
+     */
+    @Bean(CATALOGUE_QUERY_KEY_GENERATOR)
+    KeyGenerator catalogueQueryKeyGenerator(CatalogueVersion catalogueVersion) {
+        return (target, method, params) -> {
+            Object[] key = new Object[params.length + 2];
+            key[0] = catalogueVersion.current();
+            key[1] = method.getName();
+            for (int i = 0; i < params.length; i++) {
+                key[i + 2] = params[i] instanceof String value ? value.toLowerCase(Locale.ROOT) : params[i];
+            }
+            return new SimpleKey(key);
+        };
+    }
+}
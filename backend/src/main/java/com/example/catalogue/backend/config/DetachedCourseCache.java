@@ -0,0 +1,68 @@
+package com.example.catalogue.backend.config;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.util.CourseMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Caffeine cache that never shares course entities with its callers.
+ * <p>
+ * A stored result is replaced by detached copies of its courses in unmodifiable lists. Every hit hands out fresh
+ * copies, so neither a managed entity nor a caller's changes can leak into the cache. Results of other types are
+ * stored as they are. Being a {@link CaffeineCache}, it keeps the Actuator cache metrics.
+ */
+class DetachedCourseCache extends CaffeineCache {
+
+    DetachedCourseCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    /**
+     * Number of courses held by a stored value, at least 1, used to weigh query results.
+     */
+    static int weight(Object key, Object storeValue) {
+        if (storeValue instanceof Slice<?> slice) {
+            return Math.max(1, slice.getNumberOfElements());
+        }
+        if (storeValue instanceof List<?> list) {
+            return Math.max(1, list.size());
+        }
+        return 1;
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        return super.toStoreValue(copy(userValue, true));
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        return copy(super.fromStoreValue(storeValue), false);
+    }
+
+    private static Object copy(Object value, boolean frozen) {
+        if (value instanceof CourseEntity course) {
+            return CourseMapper.INSTANCE.copy(course);
+        }
+        if (value instanceof Slice<?> slice) {
+            return new SliceImpl<>(copyAll(slice.getContent(), frozen), slice.getPageable(), slice.hasNext());
+        }
+        if (value instanceof Iterable<?> values) {
+            return copyAll(values, frozen);
+        }
+        return value;
+    }
+
+    private static List<Object> copyAll(Iterable<?> values, boolean frozen) {
+        List<Object> copies = new ArrayList<>();
+        values.forEach(value -> copies.add(copy(value, frozen)));
+        return frozen ? Collections.unmodifiableList(copies) : copies;
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.catalogue.backend.config;
+
+import com.example.catalogue.backend.exception.RequestTooLargeException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Inflates request bodies sent with {@code Content-Encoding: gzip}; Tomcat only compresses responses. Inflated
+ * bodies are capped at {@code catalogue.compression.max-inflated-request-size}, larger ones are answered with
+ * 413 Payload Too Large.
+ * <p>
+ * Blocking reads inflate as they go. An inflater may need more compressed input than a non-blocking read can
+ * offer, so once a {@link ReadListener} is set the compressed body is collected without blocking, up to the same
+ * cap, and inflated from memory when it is complete.
+ */
+@Component
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private final long maxInflatedSize;
+
+    @Autowired
+    public GzipRequestFilter(@Value("${catalogue.compression.max-inflated-request-size:10MB}") DataSize maxInflatedSize) {
+        this.maxInflatedSize = maxInflatedSize.toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !GZIP.equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(new GzipRequestWrapper(request, maxInflatedSize), response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            // the REST advice answers these itself, others (such as SOAP message parsing) let them escape
+            RequestTooLargeException tooLarge = tooLarge(e);
+            if (tooLarge == null || response.isCommitted()) {
+                throw e;
+            }
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, tooLarge.getMessage());
+        }
+    }
+
+    private static RequestTooLargeException tooLarge(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RequestTooLargeException tooLarge) {
+                return tooLarge;
+            }
+        }
+        return null;
+    }
+
+    private static final class GzipRequestWrapper extends HttpServletRequestWrapper {
+
+        private final long maxInflatedSize;
+
+        private ServletInputStream inputStream;
+
+        private GzipRequestWrapper(HttpServletRequest request, long maxInflatedSize) {
+            super(request);
+            this.maxInflatedSize = maxInflatedSize;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new InflatingInputStream(super.getInputStream(), maxInflatedSize);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isHiddenHeader(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isHiddenHeader(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isHiddenHeader(name))
+                    .toList());
+        }
+
+        private static boolean isHiddenHeader(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    private static final class InflatingInputStream extends ServletInputStream {
+
+        private final ServletInputStream compressed;
+
+        private final long maxSize;
+
+        private InputStream inflated;
+
+        private boolean nonBlocking;
+
+        private long size;
+
+        private boolean finished;
+
+        private InflatingInputStream(ServletInputStream compressed, long maxSize) {
+            this.compressed = compressed;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = inflated().read();
+            count(b < 0 ? -1 : 1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = inflated().read(b, off, len);
+            count(read);
+            return read;
+        }
+
+        private InputStream inflated() throws IOException {
+            if (inflated == null) {
+                if (nonBlocking) {
+                    throw new IllegalStateException("Request body read before it was ready");
+                }
+                // the gzip header is read here rather than when the stream is handed out, a read listener may follow
+                inflated = new GZIPInputStream(compressed);
+            }
+            return inflated;
+        }
+
+        private void count(int read) throws IOException {
+            if (read < 0) {
+                finished = true;
+                return;
+            }
+            size += read;
+            if (size > maxSize) {
+                throw tooLarge();
+            }
+        }
+
+        private RequestTooLargeException tooLarge() {
+            return new RequestTooLargeException("Inflated request body exceeds " + maxSize + " bytes");
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (inflated != null) {
+                inflated.close();
+            } else {
+                compressed.close();
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return !nonBlocking || inflated != null;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            if (nonBlocking || inflated != null) {
+                throw new IllegalStateException("Read listener set after reading started");
+            }
+            nonBlocking = true;
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            compressed.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    byte[] buffer = new byte[8192];
+                    while (compressed.isReady()) {
+                        int read = compressed.read(buffer);
+                        if (read < 0) {
+                            return;
+                        }
+                        body.write(buffer, 0, read);
+                        if (body.size() > maxSize) {
+                            throw tooLarge();
+                        }
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    inflated = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()));
+                    // the whole body is in memory and always ready, a listener reads it in one callback
+                    readListener.onDataAvailable();
+                    readListener.onAllDataRead();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    readListener.onError(t);
+                }
+            });
+        }
+    }
+}
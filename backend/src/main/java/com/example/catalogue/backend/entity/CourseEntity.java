@@ -5,11 +5,12 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.*;
 
+/**
+ * A row of the COURSES table, whose schema and indexes are defined by the Flyway migrations in
+ * {@code db/migration/{vendor}}.
+ */
 @Entity
 @Table(name = "COURSES")
 @Data
@@ -19,7 +20,8 @@ import lombok.NoArgsConstructor;
 public class CourseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_seq")
+    @SequenceGenerator(name = "courses_seq", sequenceName = "COURSES_SEQ", allocationSize = 50)
     @Column(name = "ID")
     private Long id;
 
@@ -43,4 +45,27 @@ public class CourseEntity {
     @NotEmpty(message = "Course author field can't be empty")
     private String author;
 
+    @Version
+    @Column(name = "VERSION")
+    private Long version;
+
+    /**
+     * Lower-cased name, category and author, computed and indexed by the database so case-insensitive filters and
+     * sorts can seek. Read-only, only set on entities loaded from the table.
+     */
+    @Column(name = "NAME_LOWER", insertable = false, updatable = false)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String nameLower;
+
+    @Column(name = "CATEGORY_LOWER", insertable = false, updatable = false)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String categoryLower;
+
+    @Column(name = "AUTHOR_LOWER", insertable = false, updatable = false)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String authorLower;
+
 }
@@ -0,0 +1,42 @@
+package com.example.catalogue.backend.event;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import org.springframework.core.Ordered;
+
+/**
+ * Published by the service layer after every catalogue mutation so that in-memory indexes and caches
+ * can follow the table without re-reading it.
+ *
+ * @param type     kind of change
+ * @param courseId id of the affected course, {@code null} for {@link ChangeType#CLEARED}
+ * @param course   state of the course after the change, only set for {@link ChangeType#SAVED}
+ */
+public record CourseChangedEvent(ChangeType type, Long courseId, CourseEntity course) {
+
+    /**
+     * Order of the listeners that apply a change to an in-memory index, ahead of {@link #VERSION_ORDER}.
+     */
+    public static final int INDEX_ORDER = 0;
+
+    /**
+     * Order of the catalogue version bump, after every index has applied the change. Query results cached or tagged
+     * with the new version are then never read from an index that still misses it.
+     */
+    public static final int VERSION_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    public enum ChangeType {
+        SAVED, DELETED, CLEARED
+    }
+
+    public static CourseChangedEvent saved(CourseEntity course) {
+        return new CourseChangedEvent(ChangeType.SAVED, course.getId(), course);
+    }
+
+    public static CourseChangedEvent deleted(Long courseId) {
+        return new CourseChangedEvent(ChangeType.DELETED, courseId, null);
+    }
+
+    public static CourseChangedEvent cleared() {
+        return new CourseChangedEvent(ChangeType.CLEARED, null, null);
+    }
+}
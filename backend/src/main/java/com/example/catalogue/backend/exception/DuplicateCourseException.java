@@ -0,0 +1,25 @@
+package com.example.catalogue.backend.exception;
+
+import com.example.catalogue.backend.search.NearDuplicate;
+import org.springframework.ws.soap.server.endpoint.annotation.FaultCode;
+import org.springframework.ws.soap.server.endpoint.annotation.SoapFault;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@SoapFault(faultCode = FaultCode.CLIENT)
+public class DuplicateCourseException extends RuntimeException {
+
+    private static final long serialVersionUID = 3355807153471049273L;
+
+    private final transient List<NearDuplicate> duplicates;
+
+    public DuplicateCourseException(List<NearDuplicate> duplicates) {
+        super(duplicates.stream().map(NearDuplicate::toString).collect(Collectors.joining("; ")));
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    public List<NearDuplicate> getDuplicates() {
+        return duplicates;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.catalogue.backend.exception;
+
+import org.springframework.ws.soap.server.endpoint.annotation.FaultCode;
+import org.springframework.ws.soap.server.endpoint.annotation.SoapFault;
+
+@SoapFault(faultCode = FaultCode.CLIENT)
+public class InvalidPageTokenException extends RuntimeException {
+
+    private static final long serialVersionUID = -2811409370412297530L;
+
+    public InvalidPageTokenException(String message) {
+        super(message);
+    }
+}
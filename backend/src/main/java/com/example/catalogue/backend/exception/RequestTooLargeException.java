@@ -0,0 +1,15 @@
+package com.example.catalogue.backend.exception;
+
+import java.io.IOException;
+
+/**
+ * A request body grew beyond the configured limit while it was being read; answered with 413 Payload Too Large.
+ */
+public class RequestTooLargeException extends IOException {
+
+    private static final long serialVersionUID = 4127085187613029446L;
+
+    public RequestTooLargeException(String message) {
+        super(message);
+    }
+}
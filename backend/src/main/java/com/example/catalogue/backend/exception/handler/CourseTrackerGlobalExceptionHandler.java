@@ -1,6 +1,11 @@
 package com.example.catalogue.backend.exception.handler;
 
 import com.example.catalogue.backend.exception.CourseNotFoundException;
+import com.example.catalogue.backend.exception.DuplicateCourseException;
+import com.example.catalogue.backend.exception.InvalidPageTokenException;
+import com.example.catalogue.backend.exception.RequestTooLargeException;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -13,4 +18,24 @@ public class CourseTrackerGlobalExceptionHandler {
     public ResponseEntity<String> handleCourseNotFound(CourseNotFoundException ex, WebRequest request) {
         return ResponseEntity.notFound().build();
     }
+
+    @ExceptionHandler(InvalidPageTokenException.class)
+    public ResponseEntity<String> handleInvalidPageToken(InvalidPageTokenException ex, WebRequest request) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    @ExceptionHandler(DuplicateCourseException.class)
+    public ResponseEntity<String> handleDuplicateCourse(DuplicateCourseException ex, WebRequest request) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(RequestTooLargeException.class)
+    public ResponseEntity<String> handleRequestTooLarge(RequestTooLargeException ex, WebRequest request) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<String> handleConstraintViolation(ConstraintViolationException ex, WebRequest request) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
 }
@@ -1,21 +1,121 @@
 package com.example.catalogue.backend.repository;
 
 import com.example.catalogue.backend.entity.CourseEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CourseRepository extends CrudRepository<CourseEntity, Long> {
 
+    String EXPORT_FETCH_SIZE = "500";
+
     @Query("""
             select c 
             from CourseEntity c 
-            where lower(c.name) like lower(concat('%', :name, '%'))
-            and lower(c.category) like lower(concat('%', :category, '%'))
+            where c.nameLower like concat('%', lower(:name), '%')
+            and c.categoryLower like concat('%', lower(:category), '%')
             and c.rating >= :rating
+            order by c.id
             """)
     Iterable<CourseEntity> searchSimilarCourses(@Param("name") String name, @Param("category") String category, @Param("rating") int rating);
 
-}
\ No newline at end of file
+    @Query("""
+            select count(c)
+            from CourseEntity c
+            where c.nameLower like concat('%', lower(:name), '%')
+            and c.categoryLower like concat('%', lower(:category), '%')
+            and c.rating >= :rating
+            """)
+    long countSimilarCourses(@Param("name") String name, @Param("category") String category, @Param("rating") int rating);
+
+    /**
+     * Keyset page over the primary key: {@code where id > :id order by id limit :pageSize}.
+     */
+    Slice<CourseEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Keyset page ordered by lower-cased name, then id, starting after {@code (name, id)}.
+     */
+    @Query("""
+            select c
+            from CourseEntity c
+            where c.nameLower > :name
+            or (c.nameLower = :name and c.id > :id)
+            order by c.nameLower, c.id
+            """)
+    Slice<CourseEntity> findByNameAfter(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Keyset page ordered by descending rating, then id, starting after {@code (rating, id)}.
+     */
+    @Query("""
+            select c
+            from CourseEntity c
+            where c.rating < :rating
+            or (c.rating = :rating and c.id > :id)
+            order by c.rating desc, c.id
+            """)
+    Slice<CourseEntity> findByRatingAfter(@Param("rating") int rating, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Keyset page ordered by lower-cased author, then id, starting after {@code (author, id)}.
+     */
+    @Query("""
+            select c
+            from CourseEntity c
+            where c.authorLower > :author
+            or (c.authorLower = :author and c.id > :id)
+            order by c.authorLower, c.id
+            """)
+    Slice<CourseEntity> findByAuthorAfter(@Param("author") String author, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Best rated courses of a category (case-insensitive), then by id: {@code order by rating desc, id limit :pageSize}.
+     */
+    @Query("""
+            select c
+            from CourseEntity c
+            where c.categoryLower = lower(:category)
+            order by c.rating desc, c.id
+            """)
+    List<CourseEntity> findBestRatedInCategory(@Param("category") String category, Pageable pageable);
+
+    /**
+     * Cursor over the whole table for exports. Must be consumed and closed inside a transaction.
+     */
+    @Query("select c from CourseEntity c order by c.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<CourseEntity> streamAll();
+
+    /**
+     * Single-statement delete, returns the number of deleted rows.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from CourseEntity c where c.id = :id")
+    int deleteCourseById(@Param("id") Long id);
+
+    /**
+     * Set-based purge of the table, unlike {@code deleteAll()} which loads and deletes every row one by one.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from CourseEntity c")
+    int deleteAllCourses();
+
+}
@@ -0,0 +1,85 @@
+package com.example.catalogue.backend.search;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Burkhard-Keller tree of distinct words under the Levenshtein distance. A lookup within {@code k} edits only
+ * descends into children whose edge distance is within {@code k} of the distance to their parent, so it measures
+ * a small part of the vocabulary instead of every word. Words cannot be removed; callers skip stale ones and
+ * rebuild the tree. Not thread-safe.
+ */
+final class BkTree {
+
+    @FunctionalInterface
+    interface Visitor {
+        void accept(String word, int distance);
+    }
+
+    private Node root;
+
+    private int size;
+
+    /**
+     * Adds {@code word} unless it is already present.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = EditDistance.levenshtein(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Visits every word within {@code maxDistance} edits of {@code query}.
+     */
+    void search(String query, int maxDistance, Visitor visitor) {
+        if (root == null) {
+            return;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = EditDistance.levenshtein(query, node.word);
+            if (distance <= maxDistance) {
+                visitor.accept(node.word, distance);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static final class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
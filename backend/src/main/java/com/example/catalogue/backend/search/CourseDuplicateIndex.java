@@ -0,0 +1,125 @@
+package com.example.catalogue.backend.search;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * MinHash signatures of the name, author and description of every course, bucketed by {@link MinHashLsh}, to spot
+ * near-duplicate courses before they are stored.
+ * <p>
+ * Texts are compared case- and punctuation-insensitively, so "Java Programming 101" and "java  programming 101 "
+ * are the same course. Two courses are near duplicates when the estimated Jaccard similarity of their texts is at
+ * least {@code catalogue.duplicates.threshold}. Checking a course costs a few bucket lookups, not a comparison with
+ * every stored course. The index is built at startup and follows every committed mutation; until it is built,
+ * nothing is reported.
+ */
+@Component
+@Slf4j
+public class CourseDuplicateIndex {
+
+    private final CourseRepository courseRepository;
+
+    private final double threshold;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    private final MinHashLsh<Long> courses = new MinHashLsh<>();
+
+    @Autowired
+    public CourseDuplicateIndex(CourseRepository courseRepository,
+                                @Value("${catalogue.duplicates.threshold:0.8}") double threshold) {
+        this.courseRepository = courseRepository;
+        this.threshold = threshold;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            courses.clear();
+            try (var stream = courseRepository.streamAll()) {
+                stream.forEach(course -> courses.add(course.getId(), signature(course)));
+            }
+            ready = true;
+            log.info("Duplicate signatures built for {} courses", courses.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CourseChangedEvent.INDEX_ORDER)
+    public void onCourseChanged(CourseChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            switch (event.type()) {
+                case SAVED -> courses.add(event.courseId(), signature(event.course()));
+                case DELETED -> courses.remove(event.courseId());
+                case CLEARED -> courses.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Near duplicates of {@code incoming} among the stored courses and among the incoming courses before each,
+     * most similar first for every incoming course.
+     */
+    public List<NearDuplicate> findNearDuplicates(List<CourseEntity> incoming) {
+        if (!ready) {
+            return List.of();
+        }
+        List<NearDuplicate> duplicates = new ArrayList<>();
+        MinHashLsh<Integer> earlier = new MinHashLsh<>();
+        lock.readLock().lock();
+        try {
+            for (int index = 0; index < incoming.size(); index++) {
+                int[] signature = signature(incoming.get(index));
+                int position = index;
+                List<NearDuplicate> matches = new ArrayList<>();
+                courses.similar(signature, threshold).forEach((courseId, similarity) ->
+                        matches.add(new NearDuplicate(position, courseId, null, similarity)));
+                earlier.similar(signature, threshold).forEach((other, similarity) ->
+                        matches.add(new NearDuplicate(position, null, other, similarity)));
+                matches.sort(Comparator.comparingDouble(NearDuplicate::similarity).reversed());
+                duplicates.addAll(matches);
+                earlier.add(index, signature);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return duplicates;
+    }
+
+    private static int[] signature(CourseEntity course) {
+        return MinHashLsh.signature(normalize(course.getName()) + " / " + normalize(course.getAuthor()) + " / "
+                + normalize(course.getDescription()));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : String.join(" ", value.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")).trim();
+    }
+}
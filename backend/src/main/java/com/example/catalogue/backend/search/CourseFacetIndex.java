@@ -0,0 +1,174 @@
+package com.example.catalogue.backend.search;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import com.example.catalogue.common.model.CourseFacets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Course counts per category and per rating, maintained from committed mutations so facets are read without
+ * touching the table.
+ * <p>
+ * Unfiltered facets are copied from the counters in O(facets). Facets for a name query count only the courses the
+ * trigram index matches, from the category and rating kept here for every course. Until the counters are built,
+ * facets are counted from a query.
+ */
+@Component
+@Slf4j
+public class CourseFacetIndex {
+
+    private final CourseRepository courseRepository;
+
+    private final CourseTrigramIndex trigramIndex;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    private final Map<Long, FacetValues> valuesByCourseId = new HashMap<>();
+    private final Map<String, Long> categoryCounts = new HashMap<>();
+    private final Map<Integer, Long> ratingCounts = new HashMap<>();
+
+    @Autowired
+    public CourseFacetIndex(CourseRepository courseRepository, CourseTrigramIndex trigramIndex) {
+        this.courseRepository = courseRepository;
+        this.trigramIndex = trigramIndex;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            clear();
+            try (var courses = courseRepository.streamAll()) {
+                courses.forEach(this::put);
+            }
+            ready = true;
+            log.info("Facet counters built with {} courses in {} categories", valuesByCourseId.size(), categoryCounts.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CourseChangedEvent.INDEX_ORDER)
+    public void onCourseChanged(CourseChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            switch (event.type()) {
+                case SAVED -> put(event.course());
+                case DELETED -> remove(event.courseId());
+                case CLEARED -> clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Facets of all courses, or of the courses whose name contains {@code name} (case-insensitive) when it is not blank.
+     */
+    public CourseFacets facets(String name) {
+        if (!ready) {
+            return count(courseRepository.searchSimilarCourses(name == null ? "" : name, "", 0));
+        }
+        lock.readLock().lock();
+        try {
+            if (name == null || name.isBlank()) {
+                return facets(valuesByCourseId.size(), categoryCounts, ratingCounts);
+            }
+            if (!trigramIndex.isReady()) {
+                return count(courseRepository.searchSimilarCourses(name, "", 0));
+            }
+            Map<String, Long> categories = new HashMap<>();
+            Map<Integer, Long> ratings = new HashMap<>();
+            long total = 0;
+            for (Long courseId : trigramIndex.search(name, "", 0)) {
+                FacetValues values = valuesByCourseId.get(courseId);
+                if (values != null) {
+                    categories.merge(values.category(), 1L, Long::sum);
+                    ratings.merge(values.rating(), 1L, Long::sum);
+                    total++;
+                }
+            }
+            return facets(total, categories, ratings);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(CourseEntity course) {
+        FacetValues previous = valuesByCourseId.put(course.getId(), new FacetValues(course.getCategory(), course.getRating()));
+        if (previous != null) {
+            decrement(previous);
+        }
+        categoryCounts.merge(course.getCategory(), 1L, Long::sum);
+        ratingCounts.merge(course.getRating(), 1L, Long::sum);
+    }
+
+    private void remove(Long courseId) {
+        FacetValues previous = valuesByCourseId.remove(courseId);
+        if (previous != null) {
+            decrement(previous);
+        }
+    }
+
+    private void decrement(FacetValues values) {
+        categoryCounts.computeIfPresent(values.category(), (category, count) -> count == 1 ? null : count - 1);
+        ratingCounts.computeIfPresent(values.rating(), (rating, count) -> count == 1 ? null : count - 1);
+    }
+
+    private void clear() {
+        valuesByCourseId.clear();
+        categoryCounts.clear();
+        ratingCounts.clear();
+    }
+
+    private static CourseFacets count(Iterable<CourseEntity> courses) {
+        Map<String, Long> categories = new HashMap<>();
+        Map<Integer, Long> ratings = new HashMap<>();
+        long total = 0;
+        for (CourseEntity course : courses) {
+            categories.merge(course.getCategory(), 1L, Long::sum);
+            ratings.merge(course.getRating(), 1L, Long::sum);
+            total++;
+        }
+        return facets(total, categories, ratings);
+    }
+
+    /**
+     * Copies the counts with categories ordered by count, then name, and ratings best first.
+     */
+    private static CourseFacets facets(long total, Map<String, Long> categoryCounts, Map<Integer, Long> ratingCounts) {
+        Map<String, Long> categories = new LinkedHashMap<>();
+        categoryCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> categories.put(entry.getKey(), entry.getValue()));
+        Map<Integer, Long> ratings = new LinkedHashMap<>();
+        ratingCounts.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Long>comparingByKey().reversed())
+                .forEach(entry -> ratings.put(entry.getKey(), entry.getValue()));
+        return new CourseFacets(total, categories, ratings);
+    }
+
+    private record FacetValues(String category, int rating) {
+    }
+}
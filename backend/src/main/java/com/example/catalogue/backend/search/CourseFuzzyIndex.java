@@ -0,0 +1,212 @@
+package com.example.catalogue.backend.search;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant index over the words of course names and authors.
+ * <p>
+ * Distinct words live in a {@link BkTree}, each with the ids of the courses using it, so a misspelt query word is
+ * only measured against the few words the tree cannot rule out, never against every course. How many edits a query
+ * word tolerates is capped by its length: none up to 2 characters, one up to 5, two beyond. A course scores, for
+ * every query word, the similarity {@code 1 - edits / length} of its closest word, and the best scores come first.
+ * <p>
+ * Words of deleted or updated courses stay in the tree without courses until they outnumber the live ones, then the
+ * tree is rebuilt. The index is built at startup and follows every committed mutation.
+ */
+@Component
+@Slf4j
+public class CourseFuzzyIndex {
+
+    public static final int MAX_EDITS = 2;
+
+    private static final int MIN_STALE_WORDS = 1024;
+
+    private static final int MAX_QUERY_WORDS = 16;
+
+    private final CourseRepository courseRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    private final Map<Long, IndexedCourse> coursesById = new HashMap<>();
+
+    private final Map<String, Set<Long>> coursesByWord = new HashMap<>();
+
+    private BkTree words = new BkTree();
+
+    private int staleWords;
+
+    @Autowired
+    public CourseFuzzyIndex(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            clear();
+            try (var courses = courseRepository.streamAll()) {
+                courses.forEach(this::put);
+            }
+            ready = true;
+            log.info("Fuzzy index built with {} courses and {} words", coursesById.size(), coursesByWord.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CourseChangedEvent.INDEX_ORDER)
+    public void onCourseChanged(CourseChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            switch (event.type()) {
+                case SAVED -> put(event.course());
+                case DELETED -> remove(event.courseId());
+                case CLEARED -> clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of at most {@code limit} courses whose name or author words are within {@code maxEdits} of the words of
+     * {@code text}, in a category containing {@code category} (case-insensitive) and with a rating of at least
+     * {@code rating}, closest first, then best rated, then by id.
+     */
+    public List<Long> search(String text, String category, int rating, int maxEdits, int limit) {
+        List<String> queryWords = words(text);
+        if (queryWords.size() > MAX_QUERY_WORDS) {
+            queryWords = queryWords.subList(0, MAX_QUERY_WORDS);
+        }
+        String categoryFilter = category == null ? "" : category.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            for (String queryWord : queryWords) {
+                Map<Long, Double> best = new HashMap<>();
+                words.search(queryWord, allowedEdits(queryWord, maxEdits), (word, distance) -> {
+                    double similarity = 1.0 - (double) distance / Math.max(queryWord.length(), word.length());
+                    for (Long courseId : coursesByWord.getOrDefault(word, Set.of())) {
+                        best.merge(courseId, similarity, Math::max);
+                    }
+                });
+                best.forEach((courseId, similarity) -> scores.merge(courseId, similarity, Double::sum));
+            }
+            Comparator<Map.Entry<Long, Double>> order = Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(entry -> coursesById.get(entry.getKey()).rating(), Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey());
+            return scores.entrySet().stream()
+                    .filter(entry -> coursesById.get(entry.getKey()).matches(categoryFilter, rating))
+                    .sorted(order)
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static int allowedEdits(String word, int maxEdits) {
+        int byLength = word.length() <= 2 ? 0 : word.length() <= 5 ? 1 : 2;
+        return Math.max(0, Math.min(maxEdits, byLength));
+    }
+
+    /**
+     * Distinct lower-cased words of {@code text} that contain a letter, numbers are not worth correcting.
+     */
+    static List<String> words(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text != null) {
+            for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (word.chars().anyMatch(Character::isLetter)) {
+                    words.add(word);
+                }
+            }
+        }
+        return new ArrayList<>(words);
+    }
+
+    private void put(CourseEntity course) {
+        remove(course.getId());
+        Set<String> courseWords = new HashSet<>(words(course.getName()));
+        courseWords.addAll(words(course.getAuthor()));
+        String category = course.getCategory() == null ? "" : course.getCategory().toLowerCase(Locale.ROOT);
+        coursesById.put(course.getId(), new IndexedCourse(courseWords, category, course.getRating()));
+        for (String word : courseWords) {
+            Set<Long> courses = coursesByWord.get(word);
+            if (courses == null) {
+                courses = new HashSet<>(2);
+                coursesByWord.put(word, courses);
+                if (staleWords > 0 && wasIndexed(word)) {
+                    staleWords--;
+                } else {
+                    words.add(word);
+                }
+            }
+            courses.add(course.getId());
+        }
+    }
+
+    private void remove(Long courseId) {
+        IndexedCourse indexed = coursesById.remove(courseId);
+        if (indexed == null) {
+            return;
+        }
+        for (String word : indexed.words()) {
+            Set<Long> courses = coursesByWord.get(word);
+            if (courses != null && courses.remove(courseId) && courses.isEmpty()) {
+                coursesByWord.remove(word);
+                staleWords++;
+            }
+        }
+        if (staleWords > Math.max(MIN_STALE_WORDS, coursesByWord.size())) {
+            words = new BkTree();
+            coursesByWord.keySet().forEach(words::add);
+            staleWords = 0;
+        }
+    }
+
+    private boolean wasIndexed(String word) {
+        boolean[] found = {false};
+        words.search(word, 0, (match, distance) -> found[0] = true);
+        return found[0];
+    }
+
+    private void clear() {
+        coursesById.clear();
+        coursesByWord.clear();
+        words = new BkTree();
+        staleWords = 0;
+    }
+
+    private record IndexedCourse(Set<String> words, String category, int rating) {
+
+        private boolean matches(String categoryFilter, int minRating) {
+            return rating >= minRating && category.contains(categoryFilter);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.catalogue.backend.search;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Unit-length TF-IDF vectors over the words of course name, category and description, with an inverted index from
+ * every word to the weight it has in each course, for "related courses" by cosine similarity.
+ * <p>
+ * A vector is computed when its course is saved, with the document frequencies of that moment; all vectors are
+ * recomputed once the catalogue has grown or shrunk by a tenth since they last were, so weights never drift far.
+ * A top-k query walks the postings of the course's words, most promising first, and stops admitting new candidates
+ * once no unseen course could still beat the k-th best score; the remaining words only refine the scores of the
+ * candidates already found. Courses sharing no word are never looked at.
+ */
+@Component
+@Slf4j
+public class CourseRelatedIndex {
+
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "by", "for",
+            "from", "in", "into", "is", "it", "of", "on", "or", "the", "to", "with", "your", "you");
+
+    private static final int NAME_WEIGHT = 2;
+
+    private static final int MIN_REFRESH_CHANGES = 100;
+
+    private final CourseRepository courseRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    private final Map<Long, Map<String, Integer>> termCountsByCourse = new HashMap<>();
+
+    private final Map<Long, Map<String, Float>> vectorsByCourse = new HashMap<>();
+
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+
+    private int coursesAtRefresh;
+
+    @Autowired
+    public CourseRelatedIndex(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            clear();
+            try (var courses = courseRepository.streamAll()) {
+                courses.forEach(course -> {
+                    Map<String, Integer> termCounts = termCounts(course);
+                    termCountsByCourse.put(course.getId(), termCounts);
+                    termCounts.keySet().forEach(term -> postingsByTerm.computeIfAbsent(term, t -> new Postings()).documents++);
+                });
+            }
+            refreshVectors();
+            ready = true;
+            log.info("Related course vectors built for {} courses over {} terms", termCountsByCourse.size(), postingsByTerm.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CourseChangedEvent.INDEX_ORDER)
+    public void onCourseChanged(CourseChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            switch (event.type()) {
+                case SAVED -> put(event.course());
+                case DELETED -> remove(event.courseId());
+                case CLEARED -> clear();
+            }
+            if (Math.abs(termCountsByCourse.size() - coursesAtRefresh) > Math.max(MIN_REFRESH_CHANGES, coursesAtRefresh / 10)) {
+                refreshVectors();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the {@code k} courses most similar to course {@code courseId}, most similar first, then by id;
+     * empty when the course is not indexed.
+     */
+    public Optional<List<Long>> related(Long courseId, int k) {
+        lock.readLock().lock();
+        try {
+            Map<String, Float> vector = vectorsByCourse.get(courseId);
+            if (vector == null) {
+                return Optional.empty();
+            }
+            return Optional.of(topK(courseId, vector, k));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> topK(Long courseId, Map<String, Float> vector, int k) {
+        // a course first met at a term scores at most the bounds of that term and the ones after it
+        List<Map.Entry<String, Float>> bounds = new ArrayList<>(vector.size());
+        double remaining = 0;
+        for (Map.Entry<String, Float> entry : vector.entrySet()) {
+            float bound = entry.getValue() * postingsByTerm.get(entry.getKey()).maxWeight;
+            bounds.add(Map.entry(entry.getKey(), bound));
+            remaining += bound;
+        }
+        bounds.sort(Map.Entry.<String, Float>comparingByValue().reversed());
+
+        Map<Long, Double> scores = new HashMap<>();
+        boolean admitting = true;
+        for (Map.Entry<String, Float> bound : bounds) {
+            if (admitting && scores.size() > k && kthBest(scores, courseId, k) > remaining) {
+                admitting = false;
+            }
+            remaining -= bound.getValue();
+            float queryWeight = vector.get(bound.getKey());
+            Map<Long, Float> weights = postingsByTerm.get(bound.getKey()).weights;
+            if (admitting) {
+                weights.forEach((id, weight) -> scores.merge(id, (double) queryWeight * weight, Double::sum));
+            } else {
+                scores.replaceAll((id, score) -> {
+                    Float weight = weights.get(id);
+                    return weight == null ? score : score + queryWeight * weight;
+                });
+            }
+        }
+        scores.remove(courseId);
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(k)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static double kthBest(Map<Long, Double> scores, Long courseId, int k) {
+        PriorityQueue<Double> best = new PriorityQueue<>(k + 1);
+        scores.forEach((id, score) -> {
+            if (!id.equals(courseId)) {
+                best.add(score);
+                if (best.size() > k) {
+                    best.poll();
+                }
+            }
+        });
+        return best.size() < k ? 0 : best.peek();
+    }
+
+    private void put(CourseEntity course) {
+        remove(course.getId());
+        Map<String, Integer> termCounts = termCounts(course);
+        termCountsByCourse.put(course.getId(), termCounts);
+        termCounts.keySet().forEach(term -> postingsByTerm.computeIfAbsent(term, t -> new Postings()).documents++);
+        index(course.getId(), termCounts);
+    }
+
+    private void remove(Long courseId) {
+        Map<String, Integer> termCounts = termCountsByCourse.remove(courseId);
+        if (termCounts == null) {
+            return;
+        }
+        vectorsByCourse.remove(courseId);
+        for (String term : termCounts.keySet()) {
+            Postings postings = postingsByTerm.get(term);
+            postings.weights.remove(courseId);
+            if (--postings.documents == 0) {
+                postingsByTerm.remove(term);
+            }
+        }
+    }
+
+    private void refreshVectors() {
+        vectorsByCourse.clear();
+        postingsByTerm.values().forEach(postings -> {
+            postings.weights.clear();
+            postings.maxWeight = 0;
+        });
+        termCountsByCourse.forEach(this::index);
+        coursesAtRefresh = termCountsByCourse.size();
+    }
+
+    /**
+     * Computes the unit-length vector of a course from the current document frequencies and posts its weights.
+     */
+    private void index(Long courseId, Map<String, Integer> termCounts) {
+        Map<String, Float> vector = new HashMap<>(termCounts.size() * 2);
+        double norm = 0;
+        for (Map.Entry<String, Integer> entry : termCounts.entrySet()) {
+            double idf = Math.log(1.0 + (double) termCountsByCourse.size() / postingsByTerm.get(entry.getKey()).documents);
+            double weight = (1.0 + Math.log(entry.getValue())) * idf;
+            vector.put(entry.getKey(), (float) weight);
+            norm += weight * weight;
+        }
+        float length = (float) Math.sqrt(norm);
+        vector.replaceAll((term, weight) -> weight / length);
+        vectorsByCourse.put(courseId, vector);
+        vector.forEach((term, weight) -> {
+            Postings postings = postingsByTerm.get(term);
+            postings.weights.put(courseId, weight);
+            postings.maxWeight = Math.max(postings.maxWeight, weight);
+        });
+    }
+
+    private void clear() {
+        termCountsByCourse.clear();
+        vectorsByCourse.clear();
+        postingsByTerm.clear();
+        coursesAtRefresh = 0;
+    }
+
+    private static Map<String, Integer> termCounts(CourseEntity course) {
+        Map<String, Integer> termCounts = new HashMap<>();
+        addTerms(termCounts, course.getName(), NAME_WEIGHT);
+        addTerms(termCounts, course.getCategory(), 1);
+        addTerms(termCounts, course.getDescription(), 1);
+        return termCounts;
+    }
+
+    private static void addTerms(Map<String, Integer> termCounts, String text, int count) {
+        if (text == null) {
+            return;
+        }
+        for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (term.length() > 1 && !STOP_WORDS.contains(term)) {
+                termCounts.merge(term, count, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Courses containing a term, with the weight the term has in each; {@code maxWeight} only ever grows between
+     * refreshes, so it stays an upper bound.
+     */
+    private static final class Postings {
+        private int documents;
+        private final Map<Long, Float> weights = new HashMap<>();
+        private float maxWeight;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.catalogue.backend.search;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Typeahead suggestions for course names, categories and authors, one {@link PrefixTrie} per field.
+ * <p>
+ * The tries are built from the table at startup and follow every committed mutation; the indexed values of each
+ * course are kept so updates and deletes can take the old ones out. Suggestions are distinct values starting with
+ * the typed prefix, best rated first, at most {@code catalogue.suggest.max-limit} of them.
+ */
+@Component
+@Slf4j
+public class CourseSuggester {
+
+    public enum Field {
+        NAME(CourseEntity::getName),
+        CATEGORY(CourseEntity::getCategory),
+        AUTHOR(CourseEntity::getAuthor);
+
+        private final Function<CourseEntity, String> value;
+
+        Field(Function<CourseEntity, String> value) {
+            this.value = value;
+        }
+    }
+
+    private final CourseRepository courseRepository;
+
+    private final int maxLimit;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Field, PrefixTrie> tries = new EnumMap<>(Field.class);
+
+    private final Map<Long, CourseEntity> indexedCourses = new HashMap<>();
+
+    @Autowired
+    public CourseSuggester(CourseRepository courseRepository,
+                           @Value("${catalogue.suggest.max-limit:10}") int maxLimit) {
+        this.courseRepository = courseRepository;
+        this.maxLimit = maxLimit;
+        for (Field field : Field.values()) {
+            tries.put(field, new PrefixTrie(maxLimit));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            clear();
+            try (var courses = courseRepository.streamAll()) {
+                courses.forEach(this::add);
+            }
+            log.info("Suggestions built for {} courses", indexedCourses.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CourseChangedEvent.INDEX_ORDER)
+    public void onCourseChanged(CourseChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            switch (event.type()) {
+                case SAVED -> {
+                    remove(event.courseId());
+                    add(event.course());
+                }
+                case DELETED -> remove(event.courseId());
+                case CLEARED -> clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} distinct values of {@code field} starting with {@code prefix} (case-insensitive),
+     * best rated first.
+     */
+    public List<String> suggest(Field field, String prefix, Integer limit) {
+        int size = limit == null ? maxLimit : Math.min(Math.max(limit, 1), maxLimit);
+        lock.readLock().lock();
+        try {
+            return tries.get(field).suggest(prefix, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(CourseEntity course) {
+        // keep only what the tries index, the event's entity may still be managed
+        CourseEntity indexed = CourseEntity.builder()
+                .id(course.getId())
+                .name(course.getName())
+                .category(course.getCategory())
+                .author(course.getAuthor())
+                .rating(course.getRating())
+                .build();
+        indexedCourses.put(indexed.getId(), indexed);
+        tries.forEach((field, trie) -> {
+            String value = field.value.apply(indexed);
+            if (value != null && !value.isBlank()) {
+                trie.add(value, indexed.getRating());
+            }
+        });
+    }
+
+    private void remove(Long courseId) {
+        CourseEntity indexed = indexedCourses.remove(courseId);
+        if (indexed == null) {
+            return;
+        }
+        tries.forEach((field, trie) -> {
+            String value = field.value.apply(indexed);
+            if (value != null && !value.isBlank()) {
+                trie.remove(value, indexed.getRating());
+            }
+        });
+    }
+
+    private void clear() {
+        indexedCourses.clear();
+        tries.values().forEach(PrefixTrie::clear);
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.catalogue.backend.search;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lucene full-text index over course name, category, description and author, kept in a directory on disk.
+ * <p>
+ * The index is rebuilt from the table at startup and then follows every committed mutation. Readers are refreshed
+ * near-real-time: the first search after a change reopens the searcher on the writer's uncommitted segments, however
+ * many changes came in between. Queries are analysed like the documents, with English stemming, every term also
+ * matches as a prefix so {@code "intro java"} finds "Introduction to Java", and hits are ranked by BM25 with the
+ * name weighted highest.
+ * <p>
+ * {@code catalogue.search.text.index-dir} is the index directory; when empty, a temporary directory is used and
+ * removed on shutdown.
+ */
+@Component
+@Slf4j
+public class CourseTextIndex {
+
+    private static final String ID = "id";
+
+    private static final String RATING = "rating";
+
+    private static final Set<String> ID_FIELDS = Set.of(ID);
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            "name", 3f,
+            "category", 2f,
+            "author", 1.5f,
+            "description", 1f);
+
+    private static final float PREFIX_BOOST = 0.5f;
+
+    private static final int MIN_PREFIX_LENGTH = 3;
+
+    private static final int MAX_QUERY_TERMS = 32;
+
+    private final CourseRepository courseRepository;
+
+    private final Path indexPath;
+
+    private final boolean temporary;
+
+    private final Analyzer analyzer = new EnglishAnalyzer();
+
+    private final Directory directory;
+
+    private final IndexWriter writer;
+
+    private final SearcherManager searcherManager;
+
+    private final Lock lock = new ReentrantLock();
+
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    private volatile boolean ready;
+
+    @Autowired
+    public CourseTextIndex(CourseRepository courseRepository,
+                           @Value("${catalogue.search.text.index-dir:}") String indexDir) throws IOException {
+        this.courseRepository = courseRepository;
+        this.temporary = indexDir.isBlank();
+        this.indexPath = temporary ? Files.createTempDirectory("catalogue-text-index") : Files.createDirectories(Path.of(indexDir));
+        this.directory = FSDirectory.open(indexPath);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.lock();
+        try {
+            ready = false;
+            writer.deleteAll();
+            try (var courses = courseRepository.streamAll()) {
+                courses.forEach(course -> apply(() -> writer.addDocument(document(course))));
+            }
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+            log.info("Text index built with {} courses in {}", writer.getDocStats().numDocs, indexPath);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CourseChangedEvent.INDEX_ORDER)
+    public void onCourseChanged(CourseChangedEvent event) {
+        lock.lock();
+        try {
+            switch (event.type()) {
+                case SAVED -> apply(() -> writer.updateDocument(idTerm(event.courseId()), document(event.course())));
+                case DELETED -> apply(() -> writer.deleteDocuments(idTerm(event.courseId())));
+                case CLEARED -> apply(writer::deleteAll);
+            }
+            stale.set(true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ids of at most {@code limit} courses matching {@code text} with a rating of at least {@code rating},
+     * best match first.
+     */
+    public List<Long> search(String text, int rating, int limit) {
+        Query query = query(text, rating);
+        if (query == null) {
+            return List.of();
+        }
+        try {
+            if (stale.getAndSet(false)) {
+                searcherManager.maybeRefreshBlocking();
+            }
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc hit : topDocs.scoreDocs) {
+                    ids.add(Long.valueOf(storedFields.document(hit.doc, ID_FIELDS).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        if (temporary) {
+            FileSystemUtils.deleteRecursively(indexPath);
+        }
+    }
+
+    /**
+     * Every analysed term of {@code text} in every field, as a term and as a prefix, filtered by rating;
+     * {@code null} when the text has no searchable terms.
+     */
+    private Query query(String text, int rating) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder matches = new BooleanQuery.Builder();
+        for (String term : terms) {
+            FIELD_BOOSTS.forEach((field, boost) -> {
+                matches.add(new BoostQuery(new TermQuery(new Term(field, term)), boost), Occur.SHOULD);
+                if (term.length() >= MIN_PREFIX_LENGTH) {
+                    matches.add(new BoostQuery(new PrefixQuery(new Term(field, term)), boost * PREFIX_BOOST), Occur.SHOULD);
+                }
+            });
+        }
+        return new BooleanQuery.Builder()
+                .add(matches.build(), Occur.MUST)
+                .add(IntPoint.newRangeQuery(RATING, rating, Integer.MAX_VALUE), Occur.FILTER)
+                .build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream("name", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (terms.size() < MAX_QUERY_TERMS && stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return terms;
+    }
+
+    private static Document document(CourseEntity course) {
+        Document document = new Document();
+        document.add(new StringField(ID, course.getId().toString(), Field.Store.YES));
+        document.add(new IntPoint(RATING, course.getRating()));
+        addText(document, "name", course.getName());
+        addText(document, "category", course.getCategory());
+        addText(document, "author", course.getAuthor());
+        addText(document, "description", course.getDescription());
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private static Term idTerm(Long courseId) {
+        return new Term(ID, courseId.toString());
+    }
+
+    private static void apply(IndexOperation operation) {
+        try {
+            operation.run();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexOperation {
+        void run() throws IOException;
+    }
+}
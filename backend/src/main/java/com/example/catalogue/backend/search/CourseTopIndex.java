@@ -0,0 +1,223 @@
+package com.example.catalogue.backend.search;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Best rated courses per category and over the whole catalogue, highest rating first, then by id.
+ * <p>
+ * Every category keeps a bounded ordered set of its best {@code catalogue.top.max-n} courses, so a top-n read
+ * costs O(n) whatever the size of the catalogue, and a saved course costs O(log max-n). Only removing one of the
+ * kept courses leaves a set short; it is refilled from the category's members on the next read. The sets are built
+ * at startup and follow every committed mutation.
+ */
+@Component
+@Slf4j
+public class CourseTopIndex {
+
+    private static final Comparator<Entry> BEST_FIRST = Comparator.comparingInt(Entry::rating).reversed()
+            .thenComparingLong(Entry::id);
+
+    private final CourseRepository courseRepository;
+
+    private final int capacity;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    private final Map<Long, Entry> entriesByCourse = new HashMap<>();
+
+    private final Map<String, Leaderboard> leaderboards = new HashMap<>();
+
+    private final Leaderboard overall = new Leaderboard();
+
+    @Autowired
+    public CourseTopIndex(CourseRepository courseRepository,
+                          @Value("${catalogue.top.max-n:100}") int capacity) {
+        this.courseRepository = courseRepository;
+        this.capacity = capacity;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            clear();
+            try (var courses = courseRepository.streamAll()) {
+                courses.forEach(this::put);
+            }
+            ready = true;
+            log.info("Top rated courses kept for {} courses in {} categories", entriesByCourse.size(), leaderboards.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CourseChangedEvent.INDEX_ORDER)
+    public void onCourseChanged(CourseChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            switch (event.type()) {
+                case SAVED -> put(event.course());
+                case DELETED -> remove(event.courseId());
+                case CLEARED -> clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the {@code n} best rated courses of {@code category} (case-insensitive), or of all courses when it is
+     * blank; {@code n} is capped at {@code catalogue.top.max-n}.
+     */
+    public List<Long> top(String category, int n) {
+        String key = normalize(category);
+        int size = Math.min(n, capacity);
+        lock.readLock().lock();
+        try {
+            Leaderboard leaderboard = leaderboard(key);
+            if (leaderboard == null) {
+                return List.of();
+            }
+            if (!leaderboard.isShort()) {
+                return leaderboard.top(size);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            Leaderboard leaderboard = leaderboard(key);
+            if (leaderboard == null) {
+                return List.of();
+            }
+            if (leaderboard.isShort()) {
+                leaderboard.refill();
+            }
+            return leaderboard.top(size);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Leaderboard leaderboard(String key) {
+        return key.isEmpty() ? overall : leaderboards.get(key);
+    }
+
+    private void put(CourseEntity course) {
+        remove(course.getId());
+        Entry entry = new Entry(course.getId(), normalize(course.getCategory()), course.getRating());
+        entriesByCourse.put(entry.id(), entry);
+        leaderboards.computeIfAbsent(entry.category(), category -> new Leaderboard()).add(entry);
+        overall.add(entry);
+    }
+
+    private void remove(Long courseId) {
+        Entry entry = entriesByCourse.remove(courseId);
+        if (entry == null) {
+            return;
+        }
+        Leaderboard leaderboard = leaderboards.get(entry.category());
+        leaderboard.remove(entry);
+        if (leaderboard.members.isEmpty()) {
+            leaderboards.remove(entry.category());
+        }
+        overall.remove(entry);
+    }
+
+    private void clear() {
+        entriesByCourse.clear();
+        leaderboards.clear();
+        overall.members.clear();
+        overall.best.clear();
+    }
+
+    private static String normalize(String category) {
+        return category == null ? "" : category.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(long id, String category, int rating) {
+    }
+
+    /**
+     * All course ids of a category and its best {@code capacity} entries.
+     */
+    private final class Leaderboard {
+        private final Set<Long> members = new HashSet<>();
+        private final TreeSet<Entry> best = new TreeSet<>(BEST_FIRST);
+
+        private void add(Entry entry) {
+            // a short set is refilled from all members anyway, topping it up could skip better members
+            boolean wasShort = isShort();
+            members.add(entry.id());
+            if (wasShort) {
+                return;
+            }
+            if (best.size() < capacity) {
+                best.add(entry);
+            } else if (BEST_FIRST.compare(entry, best.last()) < 0) {
+                best.pollLast();
+                best.add(entry);
+            }
+        }
+
+        private void remove(Entry entry) {
+            members.remove(entry.id());
+            best.remove(entry);
+        }
+
+        /**
+         * Whether kept entries were removed while better ones than the members left out remain.
+         */
+        private boolean isShort() {
+            return best.size() < Math.min(capacity, members.size());
+        }
+
+        private void refill() {
+            best.clear();
+            for (Long id : members) {
+                Entry entry = entriesByCourse.get(id);
+                if (best.size() < capacity) {
+                    best.add(entry);
+                } else if (BEST_FIRST.compare(entry, best.last()) < 0) {
+                    best.pollLast();
+                    best.add(entry);
+                }
+            }
+        }
+
+        private List<Long> top(int n) {
+            List<Long> ids = new ArrayList<>(Math.min(n, best.size()));
+            for (Entry entry : best) {
+                if (ids.size() == n) {
+                    break;
+                }
+                ids.add(entry.id());
+            }
+            return ids;
+        }
+    }
+}
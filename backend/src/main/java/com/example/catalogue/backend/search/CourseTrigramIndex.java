@@ -0,0 +1,387 @@
+package com.example.catalogue.backend.search;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import com.example.catalogue.backend.service.CourseCursor;
+import com.example.catalogue.backend.service.CourseSort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram inverted index over the lower-cased course name and category.
+ * <p>
+ * Every course gets an internal document number, assigned in increasing order, so posting lists stay sorted
+ * and can be intersected with a linear merge. Updates and deletes tombstone the old document; the postings are
+ * compacted once tombstones outnumber live documents. A substring query of three or more characters is resolved
+ * by intersecting the postings of its trigrams and verifying the surviving candidates, shorter queries fall back
+ * to scanning the in-memory documents. Like the JPQL query it stands in for, a {@code null} fragment matches nothing.
+ * <p>
+ * A rebuild streams the table into fresh documents without holding the lock, so searches keep being served from
+ * the current ones; mutations committed meanwhile are replayed onto the fresh documents before they are swapped in.
+ */
+@Component
+@Slf4j
+public class CourseTrigramIndex {
+
+    private static final int GRAM = 3;
+
+    private static final int MIN_COMPACTION_TOMBSTONES = 1024;
+
+    private final CourseRepository courseRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    private Documents documents = new Documents();
+
+    private List<CourseChangedEvent> eventsDuringRebuild;
+
+    @Autowired
+    public CourseTrigramIndex(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            eventsDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Documents rebuilt = new Documents();
+        boolean built = false;
+        try {
+            try (var courses = courseRepository.streamAll()) {
+                courses.forEach(rebuilt::add);
+            }
+            built = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (built) {
+                    // replaying is idempotent, so events for rows the stream already saw do no harm
+                    eventsDuringRebuild.forEach(rebuilt::apply);
+                    documents = rebuilt;
+                    ready = true;
+                    log.info("Trigram index built with {} courses and {} name trigrams", rebuilt.live.cardinality(), rebuilt.namePostings.size());
+                }
+                eventsDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CourseChangedEvent.INDEX_ORDER)
+    public void onCourseChanged(CourseChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            documents.apply(event);
+            if (eventsDuringRebuild != null) {
+                eventsDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the courses whose name and category contain the given (case-insensitive) fragments and whose
+     * rating is at least {@code rating}, in ascending order.
+     */
+    public List<Long> search(String name, String category, int rating) {
+        if (name == null || category == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int[] docs = documents.matchingDocs(normalize(name), normalize(category), rating);
+            List<Long> result = new ArrayList<>(docs.length);
+            for (int doc : docs) {
+                result.add(documents.courseIds[doc]);
+            }
+            Collections.sort(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of at most {@code limit} matching courses that come after {@code after} under {@code sort}, in that order.
+     */
+    public List<Long> search(String name, String category, int rating, CourseSort sort, CourseCursor after, int limit) {
+        if (name == null || category == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Documents docs = documents;
+            // bounded heap of the best limit matches, worst on top, instead of sorting every match
+            Comparator<Integer> order = (left, right) -> sort.compare(docs.key(sort, left), docs.courseIds[left], docs.key(sort, right), docs.courseIds[right]);
+            PriorityQueue<Integer> best = new PriorityQueue<>(order.reversed());
+            for (int doc : docs.matchingDocs(normalize(name), normalize(category), rating)) {
+                if (after == null || sort.compare(docs.key(sort, doc), docs.courseIds[doc], after.key(), after.id()) > 0) {
+                    if (best.size() < limit) {
+                        best.add(doc);
+                    } else if (limit > 0 && order.compare(doc, best.peek()) < 0) {
+                        best.poll();
+                        best.add(doc);
+                    }
+                }
+            }
+            List<Integer> sorted = new ArrayList<>(best);
+            sorted.sort(order);
+            List<Long> result = new ArrayList<>(sorted.size());
+            for (int doc : sorted) {
+                result.add(docs.courseIds[doc]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of courses {@link #search(String, String, int)} would return.
+     */
+    public int count(String name, String category, int rating) {
+        if (name == null || category == null) {
+            return 0;
+        }
+        lock.readLock().lock();
+        try {
+            return documents.matchingDocs(normalize(name), normalize(category), rating).length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Same predicate as {@code CourseRepository.searchSimilarCourses}, used to verify rows loaded for index hits.
+     */
+    public static boolean matches(CourseEntity course, String name, String category, int rating) {
+        return name != null && category != null
+                && normalize(course.getName()).contains(normalize(name))
+                && normalize(course.getCategory()).contains(normalize(category))
+                && course.getRating() >= rating;
+    }
+
+    /**
+     * Sorted candidate documents for a query, or {@code null} when the query is too short to narrow anything down.
+     */
+    private static int[] candidates(Map<String, Postings> postings, String query) {
+        if (query.length() < GRAM) {
+            return null;
+        }
+        List<Postings> lists = new ArrayList<>();
+        for (String gram : trigrams(query)) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        int[] result = Arrays.copyOf(lists.get(0).docs, lists.get(0).size);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, result.length, lists.get(i).docs, lists.get(i).size);
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        return intersect(left, left.length, right, right.length);
+    }
+
+    private static int[] intersect(int[] left, int leftSize, int[] right, int rightSize) {
+        int[] result = new int[Math.min(leftSize, rightSize)];
+        int i = 0, j = 0, size = 0;
+        while (i < leftSize && j < rightSize) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static void index(Map<String, Postings> postings, String text, int doc) {
+        for (String gram : trigrams(text)) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(doc);
+        }
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The indexed documents and their postings, replaced as a whole by a rebuild.
+     */
+    private static final class Documents {
+        private long[] courseIds = new long[0];
+        private String[] names = new String[0];
+        private String[] categories = new String[0];
+        private String[] authors = new String[0];
+        private int[] ratings = new int[0];
+        private int docCount;
+        private final BitSet live = new BitSet();
+        private final Map<Long, Integer> docsByCourseId = new HashMap<>();
+        private final Map<String, Postings> namePostings = new HashMap<>();
+        private final Map<String, Postings> categoryPostings = new HashMap<>();
+
+        private void apply(CourseChangedEvent event) {
+            switch (event.type()) {
+                case SAVED -> {
+                    remove(event.courseId());
+                    add(event.course());
+                }
+                case DELETED -> remove(event.courseId());
+                case CLEARED -> clear();
+            }
+            if (docCount - live.cardinality() > Math.max(MIN_COMPACTION_TOMBSTONES, live.cardinality())) {
+                compact();
+            }
+        }
+
+        private int[] matchingDocs(String nameQuery, String categoryQuery, int rating) {
+            int[] candidates = intersect(candidates(namePostings, nameQuery), candidates(categoryPostings, categoryQuery));
+            int[] result = new int[candidates == null ? live.cardinality() : candidates.length];
+            int size = 0;
+            if (candidates == null) {
+                for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                    if (matches(doc, nameQuery, categoryQuery, rating)) {
+                        result[size++] = doc;
+                    }
+                }
+            } else {
+                for (int doc : candidates) {
+                    if (matches(doc, nameQuery, categoryQuery, rating)) {
+                        result[size++] = doc;
+                    }
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        private boolean matches(int doc, String nameQuery, String categoryQuery, int rating) {
+            return live.get(doc) && ratings[doc] >= rating
+                    && names[doc].contains(nameQuery) && categories[doc].contains(categoryQuery);
+        }
+
+        private String key(CourseSort sort, int doc) {
+            return sort.key(names[doc], authors[doc], ratings[doc]);
+        }
+
+        private void add(CourseEntity course) {
+            int doc = docCount++;
+            if (doc == courseIds.length) {
+                int capacity = Math.max(16, doc * 2);
+                courseIds = Arrays.copyOf(courseIds, capacity);
+                names = Arrays.copyOf(names, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+                authors = Arrays.copyOf(authors, capacity);
+                ratings = Arrays.copyOf(ratings, capacity);
+            }
+            courseIds[doc] = course.getId();
+            names[doc] = normalize(course.getName());
+            categories[doc] = normalize(course.getCategory());
+            authors[doc] = normalize(course.getAuthor());
+            ratings[doc] = course.getRating();
+            live.set(doc);
+            docsByCourseId.put(course.getId(), doc);
+            index(namePostings, names[doc], doc);
+            index(categoryPostings, categories[doc], doc);
+        }
+
+        private void remove(Long courseId) {
+            Integer doc = docsByCourseId.remove(courseId);
+            if (doc != null) {
+                live.clear(doc);
+            }
+        }
+
+        private void clear() {
+            courseIds = new long[0];
+            names = new String[0];
+            categories = new String[0];
+            authors = new String[0];
+            ratings = new int[0];
+            docCount = 0;
+            live.clear();
+            docsByCourseId.clear();
+            namePostings.clear();
+            categoryPostings.clear();
+        }
+
+        private void compact() {
+            long[] oldIds = courseIds;
+            String[] oldNames = names;
+            String[] oldCategories = categories;
+            String[] oldAuthors = authors;
+            int[] oldRatings = ratings;
+            BitSet oldLive = (BitSet) live.clone();
+            clear();
+            for (int doc = oldLive.nextSetBit(0); doc >= 0; doc = oldLive.nextSetBit(doc + 1)) {
+                add(CourseEntity.builder()
+                        .id(oldIds[doc])
+                        .name(oldNames[doc])
+                        .category(oldCategories[doc])
+                        .author(oldAuthors[doc])
+                        .rating(oldRatings[doc])
+                        .build());
+            }
+        }
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.catalogue.backend.search;
+
+import java.util.*;
+
+/**
+ * MinHash signatures of texts with locality-sensitive hashing of their bands. Texts are compared as sets of
+ * character 4-grams; {@value #BANDS} bands of {@value #ROWS} rows make two texts whose sets have a Jaccard
+ * similarity of 0.8 share a bucket with a probability above 99.9%, while texts below 0.3 rarely do, so finding the
+ * candidates of a text costs a few bucket lookups whatever the number of keys. Not thread-safe.
+ */
+final class MinHashLsh<K> {
+
+    static final int BANDS = 16;
+
+    static final int ROWS = 4;
+
+    static final int SIGNATURE_LENGTH = BANDS * ROWS;
+
+    private static final int SHINGLE_LENGTH = 4;
+
+    private static final long[] SEEDS = new Random(0x5eed).longs(SIGNATURE_LENGTH).toArray();
+
+    private final List<Map<Long, Set<K>>> buckets = new ArrayList<>(BANDS);
+
+    private final Map<K, int[]> signatures = new HashMap<>();
+
+    MinHashLsh() {
+        for (int band = 0; band < BANDS; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    void add(K key, int[] signature) {
+        remove(key);
+        signatures.put(key, signature);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.get(band).computeIfAbsent(bandKey(signature, band), bucket -> new HashSet<>(2)).add(key);
+        }
+    }
+
+    void remove(K key) {
+        int[] signature = signatures.remove(key);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            long bandKey = bandKey(signature, band);
+            Set<K> bucket = buckets.get(band).get(bandKey);
+            if (bucket != null && bucket.remove(key) && bucket.isEmpty()) {
+                buckets.get(band).remove(bandKey);
+            }
+        }
+    }
+
+    /**
+     * Keys whose estimated similarity to {@code signature} is at least {@code threshold}, with that similarity.
+     */
+    Map<K, Double> similar(int[] signature, double threshold) {
+        Set<K> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            candidates.addAll(buckets.get(band).getOrDefault(bandKey(signature, band), Set.of()));
+        }
+        Map<K, Double> similar = new HashMap<>();
+        for (K candidate : candidates) {
+            double similarity = similarity(signature, signatures.get(candidate));
+            if (similarity >= threshold) {
+                similar.put(candidate, similarity);
+            }
+        }
+        return similar;
+    }
+
+    int size() {
+        return signatures.size();
+    }
+
+    void clear() {
+        signatures.clear();
+        buckets.forEach(Map::clear);
+    }
+
+    /**
+     * MinHash signature of the 4-grams of {@code text}.
+     */
+    static int[] signature(String text) {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, text.length() - SHINGLE_LENGTH + 1);
+        for (int start = 0; start < shingles; start++) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = start; i < Math.min(text.length(), start + SHINGLE_LENGTH); i++) {
+                hash = (hash ^ text.charAt(i)) * 0x100000001b3L;
+            }
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                signature[i] = Math.min(signature[i], (int) (mix(hash ^ SEEDS[i]) >>> 33));
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Share of equal signature positions, an estimate of the Jaccard similarity of the two 4-gram sets.
+     */
+    static double similarity(int[] signature, int[] other) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (signature[i] == other[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_LENGTH;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            key = key * 0x9e3779b97f4a7c15L + signature[i];
+        }
+        return key;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
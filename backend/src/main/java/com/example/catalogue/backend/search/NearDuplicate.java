@@ -0,0 +1,14 @@
+package com.example.catalogue.backend.search;
+
+/**
+ * An incoming course, by its position in the request, that nearly repeats either the stored course
+ * {@code courseId} or the incoming course at {@code duplicateOf}; the other one is {@code null}.
+ */
+public record NearDuplicate(int index, Long courseId, Integer duplicateOf, double similarity) {
+
+    @Override
+    public String toString() {
+        String match = courseId != null ? "course " + courseId : "course #" + duplicateOf + " of the request";
+        return String.format("course #%d of the request repeats %s (similarity %.2f)", index, match, similarity);
+    }
+}
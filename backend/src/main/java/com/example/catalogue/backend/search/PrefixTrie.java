@@ -0,0 +1,226 @@
+package com.example.catalogue.backend.search;
+
+import java.util.*;
+
+/**
+ * Radix trie of suggestions, one per distinct lower-cased value. Every node keeps the best {@code topK} suggestions
+ * of its subtree, highest rating first, then most courses, then alphabetically, so a lookup costs the length of the
+ * prefix rather than the size of the subtree. An update recomputes those lists along the path of the changed value
+ * only. Not thread-safe.
+ */
+final class PrefixTrie {
+
+    private static final Comparator<Suggestion> BEST_FIRST = Comparator.comparingInt(Suggestion::bestRating).reversed()
+            .thenComparing(Comparator.comparingInt(Suggestion::count).reversed())
+            .thenComparing(suggestion -> suggestion.key);
+
+    private final int topK;
+
+    private Node root = new Node("");
+
+    PrefixTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * Counts one more course with {@code value} and {@code rating}.
+     */
+    void add(String value, int rating) {
+        String key = normalize(value);
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            Node child = node.children.get(key.charAt(offset));
+            if (child == null) {
+                child = new Node(key.substring(offset));
+                node.children.put(key.charAt(offset), child);
+            } else {
+                int common = commonPrefixLength(child.label, key, offset);
+                if (common < child.label.length()) {
+                    Node middle = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    middle.children.put(child.label.charAt(0), child);
+                    node.children.put(middle.label.charAt(0), middle);
+                    child = middle;
+                }
+            }
+            path.add(child);
+            offset += child.label.length();
+            node = child;
+        }
+        if (node.suggestion == null) {
+            node.suggestion = new Suggestion(key);
+        }
+        node.suggestion.add(value, rating);
+        updateTop(path);
+    }
+
+    /**
+     * Counts one course less with {@code value} and {@code rating}.
+     */
+    void remove(String value, int rating) {
+        String key = normalize(value);
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            Node child = node.children.get(key.charAt(offset));
+            if (child == null || !key.startsWith(child.label, offset)) {
+                return;
+            }
+            path.add(child);
+            offset += child.label.length();
+            node = child;
+        }
+        if (node.suggestion == null) {
+            return;
+        }
+        node.suggestion.remove(rating);
+        if (node.suggestion.count() == 0) {
+            node.suggestion = null;
+            compact(path);
+        }
+        updateTop(path);
+    }
+
+    /**
+     * Display values of the best {@code limit} suggestions starting with {@code prefix} (case-insensitive).
+     */
+    List<String> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            Node child = node.children.get(key.charAt(offset));
+            if (child == null) {
+                return List.of();
+            }
+            int common = commonPrefixLength(child.label, key, offset);
+            if (offset + common < key.length() && common < child.label.length()) {
+                return List.of();
+            }
+            offset += common;
+            node = child;
+        }
+        List<String> values = new ArrayList<>(Math.min(limit, node.top.size()));
+        for (int i = 0; i < limit && i < node.top.size(); i++) {
+            values.add(node.top.get(i).value);
+        }
+        return values;
+    }
+
+    void clear() {
+        root = new Node("");
+    }
+
+    /**
+     * Drops the emptied last node of {@code path} and merges nodes left with a single child and no suggestion
+     * into that child, shortening {@code path} accordingly.
+     */
+    private static void compact(List<Node> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            Node parent = path.get(i - 1);
+            if (node.suggestion != null || node.children.size() > 1) {
+                return;
+            }
+            if (node.children.isEmpty()) {
+                parent.children.remove(node.label.charAt(0));
+            } else {
+                Node child = node.children.values().iterator().next();
+                child.label = node.label + child.label;
+                parent.children.put(child.label.charAt(0), child);
+            }
+            path.remove(i);
+        }
+    }
+
+    private void updateTop(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            PriorityQueue<Suggestion> best = new PriorityQueue<>(BEST_FIRST.reversed());
+            if (node.suggestion != null) {
+                best.add(node.suggestion);
+            }
+            for (Node child : node.children.values()) {
+                for (Suggestion suggestion : child.top) {
+                    best.add(suggestion);
+                    if (best.size() > topK) {
+                        best.poll();
+                    }
+                }
+            }
+            List<Suggestion> top = new ArrayList<>(best);
+            top.sort(BEST_FIRST);
+            node.top = top;
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+        private String label;
+        private Suggestion suggestion;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private List<Suggestion> top = List.of();
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * A distinct value with the number of courses per rating that carry it.
+     */
+    private static final class Suggestion {
+        private final String key;
+        private String value;
+        private final TreeMap<Integer, Integer> ratings = new TreeMap<>();
+        private int count;
+
+        private Suggestion(String key) {
+            this.key = key;
+        }
+
+        private void add(String value, int rating) {
+            this.value = value;
+            ratings.merge(rating, 1, Integer::sum);
+            count++;
+        }
+
+        private void remove(int rating) {
+            Integer courses = ratings.get(rating);
+            if (courses == null) {
+                return;
+            }
+            if (courses == 1) {
+                ratings.remove(rating);
+            } else {
+                ratings.put(rating, courses - 1);
+            }
+            count--;
+        }
+
+        private int bestRating() {
+            return ratings.isEmpty() ? 0 : ratings.lastKey();
+        }
+
+        private int count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.catalogue.backend.service;
+
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version of the whole catalogue, bumped once every mutation is committed and every index has applied it.
+ * Query results cached under an older version simply stop being looked up.
+ */
+@Component
+public class CatalogueVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * The current version qualified by the start of this instance, so tags handed out before a restart, when the
+     * counter starts over, never match again.
+     */
+    public String tag() {
+        return epoch + "." + current();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CourseChangedEvent.VERSION_ORDER)
+    public void onCourseChanged(CourseChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.catalogue.backend.service;
+
+/**
+ * Position after the last course of a page under some {@link CourseSort}.
+ *
+ * @param key    sort key of that course
+ * @param id     id of that course
+ * @param offset number of courses walked up to and including that course, lets callers cap a walk across pages
+ */
+public record CourseCursor(String key, long id, int offset) {
+}
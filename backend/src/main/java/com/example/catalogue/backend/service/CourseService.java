@@ -1,17 +1,53 @@
 package com.example.catalogue.backend.service;
 
 import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.search.CourseSuggester;
+import com.example.catalogue.common.model.CourseFacets;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface CourseService {
 
     Iterable<CourseEntity> getAllCourses();
 
+    Slice<CourseEntity> getCoursesAfter(Long afterId, Integer limit);
+
+    Slice<CourseEntity> getCoursesAfter(CourseSort sort, CourseCursor after, Integer limit);
+
+    long countCourses();
+
+    void exportCourses(Consumer<CourseEntity> action);
+
     CourseEntity getCourseById(Long courseId);
 
     Iterable<CourseEntity> searchSimilarCourses(String name, String category, int rating);
 
+    Slice<CourseEntity> searchSimilarCourses(String name, String category, int rating, CourseSort sort, CourseCursor after, Integer limit);
+
+    long countSimilarCourses(String name, String category, int rating);
+
+    List<CourseEntity> searchCoursesByText(String text, int rating, Integer limit);
+
+    List<CourseEntity> searchSimilarCoursesFuzzy(String name, String category, int rating, int maxEdits, Integer limit);
+
+    List<CourseEntity> getRelatedCourses(Long courseId, Integer limit);
+
+    List<CourseEntity> getTopCourses(String category, Integer limit);
+
+    CourseFacets getFacets(String name);
+
+    List<String> suggest(CourseSuggester.Field field, String prefix, Integer limit);
+
     CourseEntity createCourse(CourseEntity course);
 
+    CourseEntity createCourse(CourseEntity course, DuplicatePolicy duplicatePolicy);
+
+    List<Long> createCourses(List<CourseEntity> courses);
+
+    List<Long> createCourses(List<CourseEntity> courses, DuplicatePolicy duplicatePolicy);
+
 	CourseEntity updateCourse(Long courseId, CourseEntity course);
 
     void deleteCourseById(Long courseId);
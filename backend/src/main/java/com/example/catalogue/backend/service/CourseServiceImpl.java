@@ -1,62 +1,430 @@
 package com.example.catalogue.backend.service;
 
+import com.example.catalogue.backend.config.CacheConfig;
+import com.example.catalogue.backend.event.CourseChangedEvent;
 import com.example.catalogue.backend.exception.CourseNotFoundException;
 import com.example.catalogue.backend.entity.CourseEntity;
 import com.example.catalogue.backend.repository.CourseRepository;
-import org.springframework.beans.BeanUtils;
+import com.example.catalogue.backend.exception.DuplicateCourseException;
+import com.example.catalogue.backend.search.CourseDuplicateIndex;
+import com.example.catalogue.backend.search.CourseFacetIndex;
+import com.example.catalogue.backend.search.CourseFuzzyIndex;
+import com.example.catalogue.backend.search.CourseRelatedIndex;
+import com.example.catalogue.backend.search.CourseSuggester;
+import com.example.catalogue.backend.search.CourseTextIndex;
+import com.example.catalogue.backend.search.CourseTopIndex;
+import com.example.catalogue.backend.search.CourseTrigramIndex;
+import com.example.catalogue.backend.search.NearDuplicate;
+import com.example.catalogue.backend.util.CourseMapper;
+import com.example.catalogue.common.model.CourseFacets;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
+@Slf4j
 public class CourseServiceImpl implements CourseService {
 
+    private static final int ID_BATCH_SIZE = 1000;
+
     private CourseRepository courseRepository;
 
+    private CourseTrigramIndex trigramIndex;
+
+    private CourseTextIndex textIndex;
+
+    private CourseFacetIndex facetIndex;
+
+    private CourseSuggester suggester;
+
+    private CourseFuzzyIndex fuzzyIndex;
+
+    private CourseRelatedIndex relatedIndex;
+
+    private CourseDuplicateIndex duplicateIndex;
+
+    private CourseTopIndex topIndex;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int defaultPageSize;
+
+    private final int maxPageSize;
+
+    private final int bulkChunkSize;
+
+    private final DuplicatePolicy duplicatePolicy;
+
     @Autowired
-    public CourseServiceImpl(CourseRepository courseRepository) {
+    public CourseServiceImpl(CourseRepository courseRepository,
+                             CourseTrigramIndex trigramIndex,
+                             CourseTextIndex textIndex,
+                             CourseFacetIndex facetIndex,
+                             CourseSuggester suggester,
+                             CourseFuzzyIndex fuzzyIndex,
+                             CourseRelatedIndex relatedIndex,
+                             CourseDuplicateIndex duplicateIndex,
+                             CourseTopIndex topIndex,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${catalogue.pagination.default-page-size:100}") int defaultPageSize,
+                             @Value("${catalogue.pagination.max-page-size:1000}") int maxPageSize,
+                             @Value("${catalogue.bulk.chunk-size:500}") int bulkChunkSize,
+                             @Value("${catalogue.duplicates.policy:allow}") DuplicatePolicy duplicatePolicy) {
         this.courseRepository = courseRepository;
+        this.trigramIndex = trigramIndex;
+        this.textIndex = textIndex;
+        this.facetIndex = facetIndex;
+        this.suggester = suggester;
+        this.fuzzyIndex = fuzzyIndex;
+        this.relatedIndex = relatedIndex;
+        this.duplicateIndex = duplicateIndex;
+        this.topIndex = topIndex;
+        this.eventPublisher = eventPublisher;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.bulkChunkSize = bulkChunkSize;
+        this.duplicatePolicy = duplicatePolicy;
     }
 
+    /**
+     * Not cached: the whole table would be a single entry, larger than the query cache is meant to hold.
+     */
     @Override
     public Iterable<CourseEntity> getAllCourses() {
         return courseRepository.findAll();
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.COURSE_QUERIES_CACHE, keyGenerator = CacheConfig.CATALOGUE_QUERY_KEY_GENERATOR)
+    public Slice<CourseEntity> getCoursesAfter(Long afterId, Integer limit) {
+        return courseRepository.findByIdGreaterThanOrderByIdAsc(afterId == null ? 0L : afterId, PageRequest.ofSize(pageSize(limit)));
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.COURSE_QUERIES_CACHE, keyGenerator = CacheConfig.CATALOGUE_QUERY_KEY_GENERATOR)
+    public Slice<CourseEntity> getCoursesAfter(CourseSort sort, CourseCursor after, Integer limit) {
+        var page = PageRequest.ofSize(pageSize(limit));
+        long afterId = after == null ? 0L : after.id();
+        return switch (sort) {
+            case ID -> courseRepository.findByIdGreaterThanOrderByIdAsc(afterId, page);
+            case NAME -> courseRepository.findByNameAfter(after == null ? "" : after.key(), afterId, page);
+            case RATING -> courseRepository.findByRatingAfter(after == null ? Integer.MAX_VALUE : Integer.parseInt(after.key()), afterId, page);
+            case AUTHOR -> courseRepository.findByAuthorAfter(after == null ? "" : after.key(), afterId, page);
+        };
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.COURSE_QUERIES_CACHE, keyGenerator = CacheConfig.CATALOGUE_QUERY_KEY_GENERATOR)
+    public long countCourses() {
+        return courseRepository.count();
+    }
+
+    /**
+     * Walks the table with a JDBC cursor and hands each row to {@code action} as it is read.
+     * Rows are detached once consumed so the persistence context does not grow with the catalogue.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCourses(Consumer<CourseEntity> action) {
+        try (var courses = courseRepository.streamAll()) {
+            courses.forEach(course -> {
+                action.accept(course);
+                entityManager.detach(course);
+            });
+        }
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.COURSES_CACHE, key = "#courseId")
     public CourseEntity getCourseById(Long courseId) {
         return courseRepository.findById(courseId)
                 .orElseThrow(() -> new CourseNotFoundException(String.format("No course with id %s is available", courseId)));
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.COURSE_QUERIES_CACHE, keyGenerator = CacheConfig.CATALOGUE_QUERY_KEY_GENERATOR)
     public Iterable<CourseEntity> searchSimilarCourses(String name, String category, int rating) {
-        return courseRepository.searchSimilarCourses(name, category, rating);
+        if (!trigramIndex.isReady()) {
+            return courseRepository.searchSimilarCourses(name, category, rating);
+        }
+        List<Long> ids = trigramIndex.search(name, category, rating);
+        List<CourseEntity> courses = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+            courseRepository.findAllById(ids.subList(from, Math.min(ids.size(), from + ID_BATCH_SIZE))).forEach(course -> {
+                if (CourseTrigramIndex.matches(course, name, category, rating)) {
+                    courses.add(course);
+                }
+            });
+        }
+        courses.sort(Comparator.comparing(CourseEntity::getId));
+        return courses;
+    }
+
+    /**
+     * Reads only the ids of the requested page from the trigram index and loads just those rows. Until the index
+     * is built, the page is cut from the full query result.
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.COURSE_QUERIES_CACHE, keyGenerator = CacheConfig.CATALOGUE_QUERY_KEY_GENERATOR)
+    public Slice<CourseEntity> searchSimilarCourses(String name, String category, int rating, CourseSort sort, CourseCursor after, Integer limit) {
+        int pageSize = pageSize(limit);
+        List<CourseEntity> courses = new ArrayList<>(pageSize + 1);
+        if (!trigramIndex.isReady()) {
+            courseRepository.searchSimilarCourses(name, category, rating).forEach(course -> {
+                if (sort.isAfter(course, after)) {
+                    courses.add(course);
+                }
+            });
+            courses.sort(sort.comparator());
+        } else {
+            List<Long> ids = trigramIndex.search(name, category, rating, sort, after, pageSize + 1);
+            courseRepository.findAllById(ids).forEach(course -> {
+                if (CourseTrigramIndex.matches(course, name, category, rating)) {
+                    courses.add(course);
+                }
+            });
+            courses.sort(sort.comparator());
+        }
+        boolean hasNext = courses.size() > pageSize;
+        return new SliceImpl<>(courses.subList(0, Math.min(pageSize, courses.size())), PageRequest.ofSize(pageSize), hasNext);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.COURSE_QUERIES_CACHE, keyGenerator = CacheConfig.CATALOGUE_QUERY_KEY_GENERATOR)
+    public long countSimilarCourses(String name, String category, int rating) {
+        if (!trigramIndex.isReady()) {
+            return courseRepository.countSimilarCourses(name, category, rating);
+        }
+        return trigramIndex.count(name, category, rating);
     }
 
+    /**
+     * Ranks courses with the full-text index and loads the top hits by id. Until the index is built, names
+     * containing {@code text} are returned in id order.
+     */
     @Override
+    @Cacheable(cacheNames = CacheConfig.COURSE_QUERIES_CACHE, keyGenerator = CacheConfig.CATALOGUE_QUERY_KEY_GENERATOR)
+    public List<CourseEntity> searchCoursesByText(String text, int rating, Integer limit) {
+        int pageSize = pageSize(limit);
+        if (!textIndex.isReady()) {
+            List<CourseEntity> courses = new ArrayList<>();
+            for (CourseEntity course : courseRepository.searchSimilarCourses(text, "", rating)) {
+                if (courses.size() == pageSize) {
+                    break;
+                }
+                courses.add(course);
+            }
+            return courses;
+        }
+        return findAllInOrder(textIndex.search(text, rating, pageSize));
+    }
+
+    /**
+     * Ranks courses by how closely their name and author words match the words of {@code name}, within
+     * {@code maxEdits} edits each, and loads the top hits by id. Until the index is built, courses whose name
+     * contains {@code name} are returned in id order.
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.COURSE_QUERIES_CACHE, keyGenerator = CacheConfig.CATALOGUE_QUERY_KEY_GENERATOR)
+    public List<CourseEntity> searchSimilarCoursesFuzzy(String name, String category, int rating, int maxEdits, Integer limit) {
+        int pageSize = pageSize(limit);
+        if (!fuzzyIndex.isReady()) {
+            List<CourseEntity> courses = new ArrayList<>();
+            for (CourseEntity course : courseRepository.searchSimilarCourses(name, category, rating)) {
+                if (courses.size() == pageSize) {
+                    break;
+                }
+                courses.add(course);
+            }
+            return courses;
+        }
+        return findAllInOrder(fuzzyIndex.search(name, category, rating, maxEdits, pageSize));
+    }
+
+    /**
+     * Courses most similar to course {@code courseId} by the cosine of their TF-IDF vectors, read from the related
+     * index. Until the index is built, other courses of the same category are returned in id order.
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.COURSE_QUERIES_CACHE, keyGenerator = CacheConfig.CATALOGUE_QUERY_KEY_GENERATOR)
+    public List<CourseEntity> getRelatedCourses(Long courseId, Integer limit) {
+        int pageSize = pageSize(limit);
+        if (relatedIndex.isReady()) {
+            var ids = relatedIndex.related(courseId, pageSize);
+            if (ids.isPresent()) {
+                return findAllInOrder(ids.get());
+            }
+        }
+        CourseEntity course = getCourseById(courseId);
+        List<CourseEntity> courses = new ArrayList<>();
+        for (CourseEntity candidate : courseRepository.searchSimilarCourses("", course.getCategory(), 0)) {
+            if (courses.size() == pageSize) {
+                break;
+            }
+            if (!candidate.getId().equals(courseId)) {
+                courses.add(candidate);
+            }
+        }
+        return courses;
+    }
+
+    /**
+     * Best rated courses of {@code category}, or of the catalogue when it is blank, read from the per-category
+     * leaderboards. Until they are built, the same order is read from the rating index of the table.
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.COURSE_QUERIES_CACHE, keyGenerator = CacheConfig.CATALOGUE_QUERY_KEY_GENERATOR)
+    public List<CourseEntity> getTopCourses(String category, Integer limit) {
+        int pageSize = pageSize(limit);
+        if (topIndex.isReady()) {
+            return findAllInOrder(topIndex.top(category, pageSize));
+        }
+        var page = PageRequest.ofSize(pageSize);
+        if (category == null || category.isBlank()) {
+            return courseRepository.findByRatingAfter(Integer.MAX_VALUE, 0L, page).getContent();
+        }
+        return courseRepository.findBestRatedInCategory(category.trim(), page);
+    }
+
+    /**
+     * Loads the courses with {@code ids} in that order, skipping ids no longer in the table.
+     */
+    private List<CourseEntity> findAllInOrder(List<Long> ids) {
+        Map<Long, CourseEntity> coursesById = new HashMap<>(ids.size() * 2);
+        courseRepository.findAllById(ids).forEach(course -> coursesById.put(course.getId(), course));
+        List<CourseEntity> courses = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            CourseEntity course = coursesById.get(id);
+            if (course != null) {
+                courses.add(course);
+            }
+        }
+        return courses;
+    }
+
+    @Override
+    public CourseFacets getFacets(String name) {
+        return facetIndex.facets(name);
+    }
+
+    @Override
+    public List<String> suggest(CourseSuggester.Field field, String prefix, Integer limit) {
+        return suggester.suggest(field, prefix, limit);
+    }
+
+    @Override
+    @CachePut(cacheNames = CacheConfig.COURSES_CACHE, key = "#result.id")
     public CourseEntity createCourse(CourseEntity course) {
-        return courseRepository.save(course);
+        return createCourse(course, duplicatePolicy);
+    }
+
+    @Override
+    @CachePut(cacheNames = CacheConfig.COURSES_CACHE, key = "#result.id")
+    public CourseEntity createCourse(CourseEntity course, DuplicatePolicy duplicatePolicy) {
+        checkDuplicates(List.of(course), duplicatePolicy);
+        course.setId(null);
+        CourseEntity savedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(CourseChangedEvent.saved(savedCourse));
+        return savedCourse;
+    }
+
+    /**
+     * Persists all courses in one transaction. Every chunk is flushed as JDBC batches and then cleared from the
+     * persistence context, so memory is bounded by the chunk size rather than by the number of courses.
+     */
+    @Override
+    @Transactional
+    public List<Long> createCourses(List<CourseEntity> courses) {
+        return createCourses(courses, duplicatePolicy);
+    }
+
+    @Override
+    @Transactional
+    public List<Long> createCourses(List<CourseEntity> courses, DuplicatePolicy duplicatePolicy) {
+        checkDuplicates(courses, duplicatePolicy);
+        List<Long> ids = new ArrayList<>(courses.size());
+        for (int from = 0; from < courses.size(); from += bulkChunkSize) {
+            var chunk = courses.subList(from, Math.min(courses.size(), from + bulkChunkSize));
+            chunk.forEach(course -> course.setId(null));
+            courseRepository.saveAll(chunk);
+            entityManager.flush();
+            entityManager.clear();
+            chunk.forEach(course -> {
+                ids.add(course.getId());
+                eventPublisher.publishEvent(CourseChangedEvent.saved(course));
+            });
+        }
+        return ids;
     }
 
     @Override
+    @CachePut(cacheNames = CacheConfig.COURSES_CACHE, key = "#courseId")
     public CourseEntity updateCourse(Long courseId, CourseEntity course) {
         CourseEntity existingCourse = courseRepository.findById(courseId)
                 .orElseThrow(() -> new CourseNotFoundException(String.format("No course with id %s is available", courseId)));
-        BeanUtils.copyProperties(course, existingCourse, "id");
-        return courseRepository.save(existingCourse);
+        CourseMapper.INSTANCE.update(course, existingCourse);
+        CourseEntity updatedCourse = courseRepository.save(existingCourse);
+        eventPublisher.publishEvent(CourseChangedEvent.saved(updatedCourse));
+        return updatedCourse;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSES_CACHE, key = "#courseId")
     public void deleteCourseById(Long courseId) {
-        courseRepository.findById(courseId).ifPresentOrElse(course -> courseRepository.deleteById(course.getId()),
-                () -> {
-                    throw new CourseNotFoundException(String.format("No course with id %s is available", courseId));
-                });
+        if (courseRepository.deleteCourseById(courseId) == 0) {
+            throw new CourseNotFoundException(String.format("No course with id %s is available", courseId));
+        }
+        eventPublisher.publishEvent(CourseChangedEvent.deleted(courseId));
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COURSES_CACHE, allEntries = true)
     public void deleteCourses() {
-        courseRepository.deleteAll();
+        courseRepository.deleteAllCourses();
+        eventPublisher.publishEvent(CourseChangedEvent.cleared());
+    }
+
+    /**
+     * Looks up near duplicates of incoming courses unless {@code policy} allows them, all of them before anything
+     * is stored.
+     */
+    private void checkDuplicates(List<CourseEntity> courses, DuplicatePolicy policy) {
+        if (policy == DuplicatePolicy.ALLOW) {
+            return;
+        }
+        List<NearDuplicate> duplicates = duplicateIndex.findNearDuplicates(courses);
+        if (duplicates.isEmpty()) {
+            return;
+        }
+        if (policy == DuplicatePolicy.REJECT) {
+            throw new DuplicateCourseException(duplicates);
+        }
+        duplicates.forEach(duplicate -> log.warn("Near-duplicate course stored: {}", duplicate));
+    }
+
+    private int pageSize(Integer limit) {
+        return limit == null ? defaultPageSize : Math.min(Math.max(limit, 1), maxPageSize);
     }
 
 }
\ No newline at end of file
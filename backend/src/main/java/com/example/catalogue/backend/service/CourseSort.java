@@ -0,0 +1,64 @@
+package com.example.catalogue.backend.service;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Orders in which pages of courses can be walked. Every order is broken by the id, so the sort key and id of the
+ * last course of a page are an unambiguous position to continue from.
+ */
+public enum CourseSort {
+
+    /** Ascending id. */
+    ID,
+
+    /** Case-insensitive name, A to Z. */
+    NAME,
+
+    /** Best rated first. */
+    RATING,
+
+    /** Case-insensitive author, A to Z. */
+    AUTHOR;
+
+    /**
+     * Sort key of a course under this order, empty for {@link #ID}.
+     */
+    public String key(String name, String author, int rating) {
+        return switch (this) {
+            case ID -> "";
+            case NAME -> name == null ? "" : name.toLowerCase(Locale.ROOT);
+            case RATING -> Integer.toString(rating);
+            case AUTHOR -> author == null ? "" : author.toLowerCase(Locale.ROOT);
+        };
+    }
+
+    public String key(CourseEntity course) {
+        return key(course.getName(), course.getAuthor(), course.getRating());
+    }
+
+    /**
+     * Compares the positions {@code (key, id)} and {@code (otherKey, otherId)} under this order.
+     */
+    public int compare(String key, long id, String otherKey, long otherId) {
+        int result = switch (this) {
+            case ID -> 0;
+            case NAME, AUTHOR -> key.compareTo(otherKey);
+            case RATING -> Integer.compare(Integer.parseInt(otherKey), Integer.parseInt(key));
+        };
+        return result != 0 ? result : Long.compare(id, otherId);
+    }
+
+    public Comparator<CourseEntity> comparator() {
+        return (left, right) -> compare(key(left), left.getId(), key(right), right.getId());
+    }
+
+    /**
+     * Whether {@code course} comes after {@code cursor} under this order, every course does for a {@code null} cursor.
+     */
+    public boolean isAfter(CourseEntity course, CourseCursor cursor) {
+        return cursor == null || compare(key(course), course.getId(), cursor.key(), cursor.id()) > 0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.catalogue.backend.service;
+
+/**
+ * What creating courses does about near duplicates of stored courses or of each other.
+ */
+public enum DuplicatePolicy {
+
+    /** Store them without checking. */
+    ALLOW,
+
+    /** Store them and log a warning naming the courses they repeat. */
+    FLAG,
+
+    /** Store nothing and throw {@link com.example.catalogue.backend.exception.DuplicateCourseException}. */
+    REJECT
+}
@@ -0,0 +1,49 @@
+package com.example.catalogue.backend.util;
+
+import com.example.catalogue.backend.api.webservice.autogen.CourseXml;
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.common.model.Course;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Course mappings generated at compile time by MapStruct, replacing reflective {@code BeanUtils.copyProperties}.
+ */
+@Mapper
+public interface CourseMapper {
+
+    CourseMapper INSTANCE = Mappers.getMapper(CourseMapper.class);
+
+    Course toModel(CourseEntity course);
+
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "nameLower", ignore = true)
+    @Mapping(target = "categoryLower", ignore = true)
+    @Mapping(target = "authorLower", ignore = true)
+    CourseEntity toEntity(Course course);
+
+    /**
+     * Detached copy of every property, for caches that must not share entities.
+     */
+    CourseEntity copy(CourseEntity course);
+
+    CourseXml toXml(CourseEntity course);
+
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "nameLower", ignore = true)
+    @Mapping(target = "categoryLower", ignore = true)
+    @Mapping(target = "authorLower", ignore = true)
+    CourseEntity toEntity(CourseXml courseXml);
+
+    /**
+     * Copies every property except the id, the row version and the database-computed columns, as the update operations require.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "nameLower", ignore = true)
+    @Mapping(target = "categoryLower", ignore = true)
+    @Mapping(target = "authorLower", ignore = true)
+    void update(CourseEntity source, @MappingTarget CourseEntity target);
+}
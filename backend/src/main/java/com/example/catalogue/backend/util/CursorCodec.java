@@ -0,0 +1,101 @@
+package com.example.catalogue.backend.util;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.exception.InvalidPageTokenException;
+import com.example.catalogue.backend.service.CourseCursor;
+import com.example.catalogue.backend.service.CourseSort;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Encodes the keyset position of a course page (the id of its last row) into an opaque, URL-safe token.
+ * <p>
+ * Sorted walks encode a {@link CourseCursor} as {@code <sort>:<offset>:<id>:<key>}; a plain id token is read as
+ * a position under {@link CourseSort#ID} at offset 0.
+ */
+public class CursorCodec {
+
+    private static final String PREFIX = "id:";
+
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new InvalidPageTokenException(String.format("Invalid page token %s", cursor));
+            }
+            return Long.valueOf(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidPageTokenException(String.format("Invalid page token %s", cursor));
+        }
+    }
+
+    public static String nextCursor(Slice<CourseEntity> page) {
+        if (!page.hasNext() || !page.hasContent()) {
+            return null;
+        }
+        var content = page.getContent();
+        return encode(content.get(content.size() - 1).getId());
+    }
+
+    public static String encode(CourseSort sort, CourseCursor cursor) {
+        String position = prefix(sort) + cursor.offset() + ":" + cursor.id() + ":" + cursor.key();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Position encoded in {@code cursor}, which must have been handed out for the same {@code sort}.
+     */
+    public static CourseCursor decode(String cursor, CourseSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(prefix(sort))) {
+                throw new InvalidPageTokenException(String.format("Invalid page token %s for sort %s", cursor, sort));
+            }
+            String[] parts = decoded.substring(prefix(sort).length()).split(":", 3);
+            if (parts.length == 1 && sort == CourseSort.ID) {
+                return new CourseCursor("", Long.parseLong(parts[0]), 0);
+            }
+            if (parts.length != 3) {
+                throw new InvalidPageTokenException(String.format("Invalid page token %s", cursor));
+            }
+            if (sort == CourseSort.RATING) {
+                Integer.parseInt(parts[2]);
+            }
+            return new CourseCursor(parts[2], Long.parseLong(parts[1]), Integer.parseInt(parts[0]));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidPageTokenException(String.format("Invalid page token %s", cursor));
+        }
+    }
+
+    /**
+     * Token of the page after {@code page}, which was read after {@code after} under {@code sort}.
+     */
+    public static String nextCursor(Slice<CourseEntity> page, CourseSort sort, CourseCursor after) {
+        if (!page.hasNext() || !page.hasContent()) {
+            return null;
+        }
+        var content = page.getContent();
+        var last = content.get(content.size() - 1);
+        int offset = (after == null ? 0 : after.offset()) + content.size();
+        return encode(sort, new CourseCursor(sort.key(last), last.getId(), offset));
+    }
+
+    private static String prefix(CourseSort sort) {
+        return sort.name().toLowerCase(Locale.ROOT) + ":";
+    }
+}
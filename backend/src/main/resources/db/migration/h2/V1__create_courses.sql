@@ -0,0 +1,24 @@
+CREATE SEQUENCE COURSES_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE COURSES
+(
+    ID              BIGINT       NOT NULL,
+    NAME            VARCHAR(255),
+    CATEGORY        VARCHAR(255),
+    RATING          INTEGER      NOT NULL,
+    DESCRIPTION     VARCHAR(255),
+    AUTHOR          VARCHAR(255),
+    VERSION         BIGINT,
+    NAME_LOWER      VARCHAR(255) GENERATED ALWAYS AS (LOWER(NAME)),
+    CATEGORY_LOWER  VARCHAR(255) GENERATED ALWAYS AS (LOWER(CATEGORY)),
+    AUTHOR_LOWER    VARCHAR(255) GENERATED ALWAYS AS (LOWER(AUTHOR)),
+    CONSTRAINT PK_COURSES PRIMARY KEY (ID)
+);
+
+CREATE INDEX IDX_COURSES_CATEGORY ON COURSES (CATEGORY);
+CREATE INDEX IDX_COURSES_RATING ON COURSES (RATING DESC, ID);
+CREATE INDEX IDX_COURSES_AUTHOR ON COURSES (AUTHOR);
+CREATE INDEX IDX_COURSES_CATEGORY_RATING ON COURSES (CATEGORY, RATING DESC, ID);
+CREATE INDEX IDX_COURSES_NAME_LOWER ON COURSES (NAME_LOWER, ID);
+CREATE INDEX IDX_COURSES_CATEGORY_LOWER_RATING ON COURSES (CATEGORY_LOWER, RATING DESC, ID);
+CREATE INDEX IDX_COURSES_AUTHOR_LOWER ON COURSES (AUTHOR_LOWER, ID);
@@ -0,0 +1,30 @@
+-- MySQL has no sequences, Hibernate keeps the COURSES_SEQ generator in a single-row table
+CREATE TABLE COURSES_SEQ
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO COURSES_SEQ VALUES (1);
+
+CREATE TABLE COURSES
+(
+    ID              BIGINT       NOT NULL,
+    NAME            VARCHAR(255),
+    CATEGORY        VARCHAR(255),
+    RATING          INTEGER      NOT NULL,
+    DESCRIPTION     VARCHAR(255),
+    AUTHOR          VARCHAR(255),
+    VERSION         BIGINT,
+    NAME_LOWER      VARCHAR(255) GENERATED ALWAYS AS (LOWER(NAME)) STORED,
+    CATEGORY_LOWER  VARCHAR(255) GENERATED ALWAYS AS (LOWER(CATEGORY)) STORED,
+    AUTHOR_LOWER    VARCHAR(255) GENERATED ALWAYS AS (LOWER(AUTHOR)) STORED,
+    CONSTRAINT PK_COURSES PRIMARY KEY (ID)
+) ENGINE = InnoDB;
+
+CREATE INDEX IDX_COURSES_CATEGORY ON COURSES (CATEGORY);
+CREATE INDEX IDX_COURSES_RATING ON COURSES (RATING DESC, ID);
+CREATE INDEX IDX_COURSES_AUTHOR ON COURSES (AUTHOR);
+CREATE INDEX IDX_COURSES_CATEGORY_RATING ON COURSES (CATEGORY, RATING DESC, ID);
+CREATE INDEX IDX_COURSES_NAME_LOWER ON COURSES (NAME_LOWER, ID);
+CREATE INDEX IDX_COURSES_CATEGORY_LOWER_RATING ON COURSES (CATEGORY_LOWER, RATING DESC, ID);
+CREATE INDEX IDX_COURSES_AUTHOR_LOWER ON COURSES (AUTHOR_LOWER, ID);
@@ -0,0 +1,185 @@
+package com.example.catalogue.backend;
+
+import com.example.catalogue.backend.aspect.MetricsAspect;
+import com.example.catalogue.backend.config.CacheConfig;
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.exception.CourseNotFoundException;
+import com.example.catalogue.backend.repository.CourseRepository;
+import com.example.catalogue.backend.service.CatalogueVersion;
+import com.example.catalogue.backend.service.CourseService;
+import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class CourseCacheTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CatalogueVersion catalogueVersion;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @SpyBean
+    private CourseRepository courseRepository;
+
+    @Test
+    @DisplayName("Given the course change listeners, when ordered, then the catalogue version is bumped after every index")
+    void givenCourseChangeListeners_whenOrdered_thenCatalogueVersionIsBumpedLast() {
+        // Given
+        List<ApplicationListenerMethodAdapter> listeners = ((AbstractApplicationContext) applicationContext).getApplicationListeners().stream()
+                .filter(ApplicationListenerMethodAdapter.class::isInstance)
+                .map(ApplicationListenerMethodAdapter.class::cast)
+                .filter(listener -> listener.supportsEventType(ResolvableType.forClass(CourseChangedEvent.class)))
+                .sorted(AnnotationAwareOrderComparator.INSTANCE)
+                .toList();
+
+        // Then
+        assertThat(listeners).hasSizeGreaterThan(1);
+        ApplicationListenerMethodAdapter last = listeners.get(listeners.size() - 1);
+        assertThat(last.getListenerId()).startsWith(CatalogueVersion.class.getName() + ".");
+        assertThat(listeners.subList(0, listeners.size() - 1))
+                .allSatisfy(listener -> assertThat(listener.getOrder()).isLessThan(last.getOrder()));
+    }
+
+    @Test
+    @DisplayName("Given cached course, when read, updated and deleted, then only misses hit the database")
+    void givenCachedCourse_whenReadUpdatedAndDeleted_thenOnlyMissesHitDatabase() {
+        // Given: A created course is put into the cache
+        CourseEntity created = courseService.createCourse(CourseTestDataFactory.generateTestCourseToSave());
+        Long id = created.getId();
+        clearInvocations(courseRepository);
+
+        // When: Reading it twice
+        courseService.getCourseById(id);
+        courseService.getCourseById(id);
+
+        // Then: The database is not queried
+        verify(courseRepository, never()).findById(id);
+
+        // When: Updating it
+        var update = CourseEntity.builder().name("JavaEE for Dummies - 2nd Edition").category("JavaEE").rating(5).author("John Doe").build();
+        courseService.updateCourse(id, update);
+        clearInvocations(courseRepository);
+
+        // Then: Reads see the updated course without a database round trip
+        assertThat(courseService.getCourseById(id).getName()).isEqualTo("JavaEE for Dummies - 2nd Edition");
+        verify(courseRepository, never()).findById(id);
+
+        // When: Deleting it
+        courseService.deleteCourseById(id);
+        clearInvocations(courseRepository);
+
+        // Then: The entry is evicted and the next read goes to the database
+        assertThrows(CourseNotFoundException.class, () -> courseService.getCourseById(id));
+        verify(courseRepository, times(1)).findById(id);
+
+        // And: Hits and misses are exported as metrics
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CacheConfig.COURSES_CACHE).tag("result", "hit")
+                .functionCounter().count()).isGreaterThanOrEqualTo(3);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CacheConfig.COURSES_CACHE).tag("result", "miss")
+                .functionCounter().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given cached search, when repeated with same parameters, then serve from memory until the catalogue changes")
+    void givenCachedSearch_whenRepeated_thenServeFromMemoryUntilCatalogueChanges() {
+        // Given
+        long version = catalogueVersion.current();
+        var firstResult = courseService.searchSimilarCourses("web", "", 0);
+
+        // When: Repeating the search with differently cased parameters
+        clearInvocations(courseRepository);
+        var secondResult = courseService.searchSimilarCourses("WEB", "", 0);
+
+        // Then: The cached result is served, as copies of its courses
+        assertThat(secondResult).isNotSameAs(firstResult)
+                .extracting(CourseEntity::getId)
+                .containsExactlyElementsOf(ids(firstResult));
+        verifyNoInteractions(courseRepository);
+
+        // When: The catalogue changes
+        CourseEntity created = courseService.createCourse(CourseEntity.builder()
+                .name("Web Accessibility").category("Web Development").rating(4).author("Jane Smith").build());
+        clearInvocations(courseRepository);
+        var thirdResult = courseService.searchSimilarCourses("web", "", 0);
+
+        // Then: The version is bumped and the search runs again, seeing the new course
+        assertThat(catalogueVersion.current()).isGreaterThan(version);
+        assertThat(thirdResult).extracting(CourseEntity::getId).contains(created.getId());
+        verify(courseRepository, atLeastOnce()).findAllById(any());
+
+        courseService.deleteCourseById(created.getId());
+    }
+
+    @Test
+    @DisplayName("Given cached course and search, when caller modifies the returned entities, then the cache keeps its own copies")
+    void givenCachedCourseAndSearch_whenCallerModifiesEntities_thenCacheKeepsItsOwnCopies() {
+        // Given
+        CourseEntity created = courseService.createCourse(CourseTestDataFactory.generateTestCourseToSave());
+        courseService.searchSimilarCourses("dummies", "", 0);
+
+        // When: Callers change what they got back
+        courseService.getCourseById(created.getId()).setName("Changed by a caller");
+        courseService.searchSimilarCourses("dummies", "", 0).forEach(course -> course.setRating(1));
+
+        // Then: Cache hits still hold the stored values
+        clearInvocations(courseRepository);
+        assertThat(courseService.getCourseById(created.getId()).getName()).isEqualTo("JavaEE for Dummies");
+        assertThat(courseService.searchSimilarCourses("dummies", "", 0)).extracting(CourseEntity::getRating).containsOnly(4);
+        verifyNoInteractions(courseRepository);
+
+        courseService.deleteCourseById(created.getId());
+    }
+
+    @Test
+    @DisplayName("Given cached query, when repeated, then the service timer records the execution but not the cache hit")
+    void givenCachedQuery_whenRepeated_thenServiceTimerRecordsExecutionOnly() {
+        // Given
+        double timed = serviceTimerCount("countSimilarCourses");
+
+        // When: A miss followed by a hit
+        courseService.countSimilarCourses("timed only once", "", 0);
+        courseService.countSimilarCourses("timed only once", "", 0);
+
+        // Then
+        assertThat(serviceTimerCount("countSimilarCourses")).isEqualTo(timed + 1);
+    }
+
+    private double serviceTimerCount(String operation) {
+        return meterRegistry.find(MetricsAspect.TIMER_NAME).tags("layer", "service", "operation", operation)
+                .timers().stream()
+                .mapToDouble(timer -> timer.count())
+                .sum();
+    }
+
+    private static List<Long> ids(Iterable<CourseEntity> courses) {
+        List<Long> ids = new ArrayList<>();
+        courses.forEach(course -> ids.add(course.getId()));
+        return ids;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.catalogue.backend;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import com.example.catalogue.backend.search.CourseDuplicateIndex;
+import com.example.catalogue.backend.search.NearDuplicate;
+import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseDuplicateIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseDuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(courseRepository.streamAll()).thenReturn(CourseTestDataFactory.DATA.stream());
+        index = new CourseDuplicateIndex(courseRepository, 0.8);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Given built index, when check a reformatted stored course, then report it as a near duplicate")
+    void givenBuiltIndex_whenCheckReformattedCourse_thenReportNearDuplicate() {
+        // When
+        List<NearDuplicate> duplicates = index.findNearDuplicates(List.of(course(
+                "Java programming 101 ", "JOHN DOE", "Introduction to Java programming")));
+
+        // Then
+        assertThat(index.isReady()).isTrue();
+        assertThat(duplicates).singleElement().satisfies(duplicate -> {
+            assertThat(duplicate.index()).isZero();
+            assertThat(duplicate.courseId()).isEqualTo(7L);
+            assertThat(duplicate.similarity()).isEqualTo(1.0);
+        });
+    }
+
+    @Test
+    @DisplayName("Given built index, when check distinct courses, then report nothing")
+    void givenBuiltIndex_whenCheckDistinctCourses_thenReportNothing() {
+        assertThat(index.findNearDuplicates(List.of(
+                course("Java Programming 201", "John Doe", "Generics, streams and concurrency in depth."),
+                course("Java Advanced Topics", "Jane Smith", "Modules, records and the garbage collector."),
+                course("Kotlin Basics", "John Doe", "Introduction to Kotlin programming.")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given courses repeating each other, when check them together, then report the later ones")
+    void givenRepeatedIncomingCourses_whenCheck_thenReportLaterOnes() {
+        // When
+        List<NearDuplicate> duplicates = index.findNearDuplicates(List.of(
+                course("Scala Basics", "Ann Lee", "Functional programming on the JVM."),
+                course("Rust Basics", "Ann Lee", "Systems programming without a garbage collector."),
+                course("scala basics", "Ann Lee", "Functional programming on the JVM")));
+
+        // Then
+        assertThat(duplicates).singleElement().satisfies(duplicate -> {
+            assertThat(duplicate.index()).isEqualTo(2);
+            assertThat(duplicate.courseId()).isNull();
+            assertThat(duplicate.duplicateOf()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("Given built index, when courses are updated, deleted and cleared, then duplicates follow")
+    void givenBuiltIndex_whenCoursesChange_thenDuplicatesFollow() {
+        // Given
+        CourseEntity candidate = course("Java Programming 101", "John Doe", "Introduction to Java programming.");
+
+        // When
+        index.onCourseChanged(CourseChangedEvent.deleted(7L));
+
+        // Then
+        assertThat(index.findNearDuplicates(List.of(candidate))).isEmpty();
+
+        // When
+        index.onCourseChanged(CourseChangedEvent.saved(CourseEntity.builder().id(9L).name("Java Programming 101")
+                .author("John Doe").description("Introduction to Java programming.").build()));
+
+        // Then
+        assertThat(index.findNearDuplicates(List.of(candidate))).extracting(NearDuplicate::courseId).containsExactly(9L);
+
+        // When
+        index.onCourseChanged(CourseChangedEvent.cleared());
+
+        // Then
+        assertThat(index.findNearDuplicates(List.of(candidate))).isEmpty();
+    }
+
+    private static CourseEntity course(String name, String author, String description) {
+        return CourseEntity.builder().name(name).category("Programming").rating(4).author(author).description(description).build();
+    }
+}
@@ -1,16 +1,25 @@
 package com.example.catalogue.backend;
 
+import com.example.catalogue.backend.api.webservice.CourseXmlMarshallerPool;
 import com.example.catalogue.backend.api.webservice.autogen.*;
 import com.example.catalogue.backend.exception.CourseNotFoundException;
+import com.example.catalogue.backend.exception.DuplicateCourseException;
 import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.search.NearDuplicate;
+import com.example.catalogue.backend.service.CourseCursor;
 import com.example.catalogue.backend.service.CourseService;
+import com.example.catalogue.backend.service.CourseSort;
 import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import com.example.catalogue.backend.util.CursorCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.webservices.server.WebServiceServerTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.oxm.XmlMappingException;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.ws.test.server.MockWebServiceClient;
@@ -19,6 +28,7 @@ import org.springframework.xml.transform.StringSource;
 
 import javax.xml.transform.Result;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -26,6 +36,7 @@ import static org.springframework.ws.test.server.RequestCreators.withPayload;
 import static org.springframework.ws.test.server.ResponseMatchers.*;
 
 @WebServiceServerTest
+@Import(CourseXmlMarshallerPool.class)
 public class CourseEndpointTest {
     @Autowired
     private MockWebServiceClient mockClient;
@@ -54,8 +65,10 @@ public class CourseEndpointTest {
                 .toList();
         GetAllCoursesResponse expectedResponse = new GetAllCoursesResponse();
         expectedResponse.getCourses().addAll(courseXmlList);
+        expectedResponse.setTotalCount(CourseTestDataFactory.DATA.size());
 
-        when(courseService.getAllCourses()).thenReturn(CourseTestDataFactory.DATA);
+        when(courseService.getCoursesAfter(CourseSort.ID, null, null)).thenReturn(new SliceImpl<>(CourseTestDataFactory.DATA));
+        when(courseService.countCourses()).thenReturn((long) CourseTestDataFactory.DATA.size());
 
         // When
         StringSource requestPayload = marshallAndToStringSource(request);
@@ -67,7 +80,134 @@ public class CourseEndpointTest {
                 .andExpect(noFault())
                 .andExpect(payload(expectedResponsePayload));
 
-        verify(courseService, times(1)).getAllCourses();
+        verify(courseService, times(1)).getCoursesAfter(CourseSort.ID, null, null);
+        verify(courseService, times(1)).countCourses();
+        verifyNoMoreInteractions(courseService);
+    }
+
+    @Test
+    @DisplayName("Given a GetAllCoursesRequest with page token and size, when the request is sent, then verify the response contains the page and next page token")
+    public void givenGetAllCoursesRequestWithPageToken_whenRequestSent_thenVerifyResponseContainsPageAndNextPageToken() {
+        // Given
+        GetAllCoursesRequest request = new GetAllCoursesRequest();
+        request.setPageSize(2);
+        request.setPageToken(CursorCodec.encode(2L));
+
+        var after = new CourseCursor("", 2L, 0);
+        var pageContent = CourseTestDataFactory.DATA.subList(2, 4);
+        when(courseService.getCoursesAfter(CourseSort.ID, after, 2)).thenReturn(new SliceImpl<>(pageContent, PageRequest.ofSize(2), true));
+        when(courseService.countCourses()).thenReturn((long) CourseTestDataFactory.DATA.size());
+
+        GetAllCoursesResponse expectedResponse = new GetAllCoursesResponse();
+        expectedResponse.getCourses().addAll(pageContent.stream().map(this::convertCourseToCourseXml).toList());
+        expectedResponse.setNextPageToken(CursorCodec.encode(CourseSort.ID, new CourseCursor("", 4L, 2)));
+        expectedResponse.setTotalCount(CourseTestDataFactory.DATA.size());
+
+        // When
+        StringSource requestPayload = marshallAndToStringSource(request);
+        StringSource expectedResponsePayload = marshallAndToStringSource(expectedResponse);
+        var responseAction = mockClient.sendRequest(withPayload(requestPayload));
+
+        // Then
+        responseAction
+                .andExpect(noFault())
+                .andExpect(payload(expectedResponsePayload));
+
+        verify(courseService, times(1)).getCoursesAfter(CourseSort.ID, after, 2);
+        verify(courseService, times(1)).countCourses();
+        verifyNoMoreInteractions(courseService);
+    }
+
+    @Test
+    @DisplayName("Given a GetAllCoursesRequest sorted by rating with maxResults, when the last allowed page is sent, then verify the page is capped and has no next page token")
+    public void givenGetAllCoursesRequestWithMaxResults_whenLastPageRequested_thenVerifyPageIsCappedWithoutNextPageToken() {
+        // Given
+        var last = CourseTestDataFactory.DATA.get(1);
+        var after = new CourseCursor(CourseSort.RATING.key(last), last.getId(), 2);
+        GetAllCoursesRequest request = new GetAllCoursesRequest();
+        request.setSortBy(CourseSortType.RATING);
+        request.setPageSize(2);
+        request.setMaxResults(3);
+        request.setPageToken(CursorCodec.encode(CourseSort.RATING, after));
+
+        var pageContent = CourseTestDataFactory.DATA.subList(0, 1);
+        when(courseService.getCoursesAfter(CourseSort.RATING, after, 1)).thenReturn(new SliceImpl<>(pageContent, PageRequest.ofSize(1), true));
+        when(courseService.countCourses()).thenReturn((long) CourseTestDataFactory.DATA.size());
+
+        GetAllCoursesResponse expectedResponse = new GetAllCoursesResponse();
+        expectedResponse.getCourses().addAll(pageContent.stream().map(this::convertCourseToCourseXml).toList());
+        expectedResponse.setTotalCount(CourseTestDataFactory.DATA.size());
+
+        // When
+        var responseAction = mockClient.sendRequest(withPayload(marshallAndToStringSource(request)));
+
+        // Then
+        responseAction
+                .andExpect(noFault())
+                .andExpect(payload(marshallAndToStringSource(expectedResponse)));
+
+        verify(courseService, times(1)).getCoursesAfter(CourseSort.RATING, after, 1);
+        verify(courseService, times(1)).countCourses();
+        verifyNoMoreInteractions(courseService);
+    }
+
+    @Test
+    @DisplayName("Given a GetAllCoursesRequest with a page token of another sort, when the request is sent, then verify the response contains a client SOAP fault")
+    public void givenGetAllCoursesRequestWithPageTokenOfOtherSort_whenRequestSent_thenVerifyResponseContainsClientFault() {
+        // Given
+        GetAllCoursesRequest request = new GetAllCoursesRequest();
+        request.setSortBy(CourseSortType.NAME);
+        request.setPageToken(CursorCodec.encode(CourseSort.RATING, new CourseCursor("4", 1L, 1)));
+
+        // When
+        var responseAction = mockClient.sendRequest(withPayload(marshallAndToStringSource(request)));
+
+        // Then
+        responseAction.andExpect(clientOrSenderFault());
+        verifyNoInteractions(courseService);
+    }
+
+    @Test
+    @DisplayName("Given a GetAllCoursesRequest with an invalid page token, when the request is sent, then verify the response contains a client SOAP fault")
+    public void givenGetAllCoursesRequestWithInvalidPageToken_whenRequestSent_thenVerifyResponseContainsClientFault() {
+        // Given
+        GetAllCoursesRequest request = new GetAllCoursesRequest();
+        request.setPageToken("not-a-token");
+
+        // When
+        var responseAction = mockClient.sendRequest(withPayload(marshallAndToStringSource(request)));
+
+        // Then
+        responseAction.andExpect(clientOrSenderFault());
+        verifyNoInteractions(courseService);
+    }
+
+    @Test
+    @DisplayName("Given an ExportCoursesRequest, when the request is sent, then verify the response streams every course")
+    public void givenExportCoursesRequest_whenRequestSent_thenVerifyResponseStreamsEveryCourse() {
+        // Given
+        ExportCoursesRequest request = new ExportCoursesRequest();
+
+        doAnswer(invocation -> {
+            Consumer<CourseEntity> action = invocation.getArgument(0);
+            CourseTestDataFactory.DATA.forEach(action);
+            return null;
+        }).when(courseService).exportCourses(any());
+
+        ExportCoursesResponse expectedResponse = new ExportCoursesResponse();
+        expectedResponse.getCourses().addAll(CourseTestDataFactory.DATA.stream().map(this::convertCourseToCourseXml).toList());
+
+        // When
+        StringSource requestPayload = marshallAndToStringSource(request);
+        StringSource expectedResponsePayload = marshallAndToStringSource(expectedResponse);
+        var responseAction = mockClient.sendRequest(withPayload(requestPayload));
+
+        // Then
+        responseAction
+                .andExpect(noFault())
+                .andExpect(payload(expectedResponsePayload));
+
+        verify(courseService, times(1)).exportCourses(any());
         verifyNoMoreInteractions(courseService);
     }
 
@@ -143,6 +283,52 @@ public class CourseEndpointTest {
         verifyNoMoreInteractions(courseService);
     }
 
+    @Test
+    @DisplayName("Given a CreateCourseRequest for a near duplicate rejected by the policy, when the request is sent, then verify the response contains a client SOAP fault")
+    public void givenCreateCourseRequestForRejectedDuplicate_whenRequestSent_thenVerifyResponseContainsClientFault() {
+        // Given
+        when(courseService.createCourse(any(CourseEntity.class)))
+                .thenThrow(new DuplicateCourseException(List.of(new NearDuplicate(0, 1L, null, 0.9))));
+
+        CreateCourseRequest request = new CreateCourseRequest();
+        request.setCourse(convertCourseToCourseXml(CourseTestDataFactory.generateTestCourseToSave()));
+
+        // When
+        var responseAction = mockClient.sendRequest(withPayload(marshallAndToStringSource(request)));
+
+        // Then
+        responseAction.andExpect(clientOrSenderFault());
+        verify(courseService, times(1)).createCourse(any(CourseEntity.class));
+        verifyNoMoreInteractions(courseService);
+    }
+
+    @Test
+    @DisplayName("Given a CreateCoursesRequest, when the request is sent, then verify the response contains the created course ids")
+    public void givenCreateCoursesRequest_whenRequestSent_thenVerifyResponseContainsCreatedCourseIds() {
+        // Given
+        when(courseService.createCourses(anyList())).thenReturn(List.of(11L, 12L));
+
+        CreateCoursesRequest request = new CreateCoursesRequest();
+        request.getCourses().add(convertCourseToCourseXml(CourseTestDataFactory.generateTestCourseToSave()));
+        request.getCourses().add(convertCourseToCourseXml(CourseTestDataFactory.DATA.get(0)));
+
+        CreateCoursesResponse expectedResponse = new CreateCoursesResponse();
+        expectedResponse.getCourseIds().addAll(List.of(11L, 12L));
+
+        // When
+        StringSource requestPayload = marshallAndToStringSource(request);
+        StringSource expectedResponsePayload = marshallAndToStringSource(expectedResponse);
+        var responseAction = mockClient.sendRequest(withPayload(requestPayload));
+
+        // Then
+        responseAction
+                .andExpect(noFault())
+                .andExpect(payload(expectedResponsePayload));
+
+        verify(courseService, times(1)).createCourses(argThat(courses -> courses.size() == 2));
+        verifyNoMoreInteractions(courseService);
+    }
+
     @Test
     @DisplayName("Given an UpdateCourseRequest, when the request is sent, then verify the response contains the updated course details")
     public void givenUpdateCourseRequest_whenRequestSent_thenVerifyResponseContainsUpdatedCourseDetails() {
@@ -249,7 +435,8 @@ public class CourseEndpointTest {
                         .author("Jane Smith")
                         .build()
         );
-        when(courseService.searchSimilarCourses(anyString(), anyString(), anyInt())).thenReturn(data);
+        when(courseService.searchSimilarCourses(anyString(), anyString(), anyInt(), any(), any(), any())).thenReturn(new SliceImpl<>(data));
+        when(courseService.countSimilarCourses(anyString(), anyString(), anyInt())).thenReturn((long) data.size());
 
         SearchCoursesRequest request = new SearchCoursesRequest();
         request.setName("Machine Learning");
@@ -262,6 +449,7 @@ public class CourseEndpointTest {
                 .toList();
         SearchCoursesResponse expectedResponse = new SearchCoursesResponse();
         expectedResponse.getCourses().addAll(courseXmlList);
+        expectedResponse.setTotalCount(data.size());
 
         // When
         StringSource requestPayload = marshallAndToStringSource(request);
@@ -273,7 +461,8 @@ public class CourseEndpointTest {
                 .andExpect(noFault())
                 .andExpect(payload(expectedResponsePayload));
 
-        verify(courseService, times(1)).searchSimilarCourses(eq("Machine Learning"), eq("Data Science"), eq(4));
+        verify(courseService, times(1)).searchSimilarCourses("Machine Learning", "Data Science", 4, CourseSort.ID, null, null);
+        verify(courseService, times(1)).countSimilarCourses("Machine Learning", "Data Science", 4);
         verifyNoMoreInteractions(courseService);
     }
 
@@ -0,0 +1,94 @@
+package com.example.catalogue.backend;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import com.example.catalogue.backend.search.CourseFacetIndex;
+import com.example.catalogue.backend.search.CourseTrigramIndex;
+import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import com.example.catalogue.common.model.CourseFacets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseFacetIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseTrigramIndex trigramIndex;
+
+    private CourseFacetIndex facetIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(courseRepository.streamAll()).thenAnswer(invocation -> CourseTestDataFactory.DATA.stream());
+        trigramIndex = new CourseTrigramIndex(courseRepository);
+        trigramIndex.rebuild();
+        facetIndex = new CourseFacetIndex(courseRepository, trigramIndex);
+        facetIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Given built counters, when facets, then return counts per category by size and per rating best first")
+    void givenBuiltCounters_whenFacets_thenReturnOrderedCounts() {
+        // When
+        CourseFacets facets = facetIndex.facets("");
+
+        // Then
+        assertThat(facets.getTotal()).isEqualTo(8);
+        assertThat(facets.getCategories()).containsExactly(
+                Map.entry("Data Science", 2L),
+                Map.entry("Programming", 2L),
+                Map.entry("Web Development", 2L),
+                Map.entry("Artificial Intelligence", 1L),
+                Map.entry("Languages", 1L));
+        assertThat(facets.getRatings()).containsExactly(Map.entry(5, 1L), Map.entry(4, 5L), Map.entry(3, 2L));
+        verify(courseRepository, never()).searchSimilarCourses(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Given built counters, when facets for a name, then count only the courses matching the name")
+    void givenBuiltCounters_whenFacetsForName_thenCountMatchingCourses() {
+        // When
+        CourseFacets facets = facetIndex.facets("java");
+
+        // Then
+        assertThat(facets.getTotal()).isEqualTo(2);
+        assertThat(facets.getCategories()).containsExactly(Map.entry("Programming", 2L));
+        assertThat(facets.getRatings()).containsExactly(Map.entry(4, 1L), Map.entry(3, 1L));
+    }
+
+    @Test
+    @DisplayName("Given built counters, when courses are updated, deleted and cleared, then counts follow")
+    void givenBuiltCounters_whenCoursesChange_thenCountsFollow() {
+        // When
+        facetIndex.onCourseChanged(CourseChangedEvent.saved(CourseEntity.builder()
+                .id(4L).name("Spanish for Beginners").category("Data Science").rating(5).author("Maria Rodriguez").build()));
+        facetIndex.onCourseChanged(CourseChangedEvent.deleted(2L));
+
+        // Then
+        CourseFacets facets = facetIndex.facets("");
+        assertThat(facets.getTotal()).isEqualTo(7);
+        assertThat(facets.getCategories()).containsEntry("Data Science", 3L)
+                .containsEntry("Web Development", 1L)
+                .doesNotContainKey("Languages");
+        assertThat(facets.getRatings()).containsExactly(Map.entry(5, 1L), Map.entry(4, 5L), Map.entry(3, 1L));
+
+        // When
+        facetIndex.onCourseChanged(CourseChangedEvent.cleared());
+
+        // Then
+        assertThat(facetIndex.facets("").getTotal()).isZero();
+        assertThat(facetIndex.facets("").getCategories()).isEmpty();
+    }
+}
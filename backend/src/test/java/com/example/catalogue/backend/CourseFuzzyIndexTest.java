@@ -0,0 +1,130 @@
+package com.example.catalogue.backend;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import com.example.catalogue.backend.search.CourseFuzzyIndex;
+import com.example.catalogue.backend.search.EditDistance;
+import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseFuzzyIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseFuzzyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(courseRepository.streamAll()).thenReturn(CourseTestDataFactory.DATA.stream());
+        index = new CourseFuzzyIndex(courseRepository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Given built index, when search misspelt words, then return closest courses first")
+    void givenBuiltIndex_whenSearchMisspeltWords_thenReturnClosestFirst() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("Pyhton", "", 0, 2, 10)).containsExactly(6L);
+        assertThat(index.search("machne lerning", "", 0, 2, 10)).containsExactly(1L);
+        assertThat(index.search("Jon Doe", "", 0, 2, 10)).containsExactly(8L, 7L);
+        assertThat(index.search("Jane Smyth", "", 0, 2, 10)).containsExactly(1L);
+        assertThat(index.search("Javva", "", 0, 2, 1)).containsExactly(8L);
+    }
+
+    @Test
+    @DisplayName("Given built index, when search with filters and edit limits, then honour them")
+    void givenBuiltIndex_whenSearchWithFiltersAndEditLimits_thenHonourThem() {
+        assertThat(index.search("jon", "programming", 4, 2, 10)).containsExactly(8L);
+        assertThat(index.search("jon", "languages", 0, 2, 10)).isEmpty();
+        assertThat(index.search("Pyhton", "", 0, 0, 10)).isEmpty();
+        assertThat(index.search("Pyhton", "", 0, 1, 10)).isEmpty();
+        // words of two letters are never corrected
+        assertThat(index.search("ai", "", 0, 2, 10)).isEmpty();
+        assertThat(index.search("", "", 0, 2, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given built index, when courses are updated, deleted and cleared, then results follow")
+    void givenBuiltIndex_whenCoursesChange_thenResultsFollow() {
+        // When
+        index.onCourseChanged(CourseChangedEvent.saved(CourseEntity.builder()
+                .id(6L).name("Pythonic Data Analysis").category("Data Science").rating(4).author("Emily Wang").build()));
+        index.onCourseChanged(CourseChangedEvent.deleted(8L));
+
+        // Then
+        assertThat(index.search("Pyhton", "", 0, 2, 10)).isEmpty();
+        assertThat(index.search("Pythonik", "", 0, 2, 10)).containsExactly(6L);
+        assertThat(index.search("Jon", "", 0, 2, 10)).containsExactly(7L);
+
+        // When
+        index.onCourseChanged(CourseChangedEvent.cleared());
+
+        // Then
+        assertThat(index.search("java", "", 0, 2, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given random additions and removals, when search any word, then match a linear edit distance scan")
+    void givenRandomChanges_whenSearch_thenMatchLinearScan() {
+        // Given
+        index.onCourseChanged(CourseChangedEvent.cleared());
+        Random random = new Random(7);
+        String[] syllables = {"ka", "lo", "mi", "ber", "dan", "kor"};
+        Map<Long, CourseEntity> courses = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            long courseId = random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                courses.remove(courseId);
+                index.onCourseChanged(CourseChangedEvent.deleted(courseId));
+            } else {
+                CourseEntity course = CourseEntity.builder()
+                        .id(courseId)
+                        .name(word(random, syllables))
+                        .category("c")
+                        .author(word(random, syllables))
+                        .rating(1)
+                        .build();
+                courses.put(courseId, course);
+                index.onCourseChanged(CourseChangedEvent.saved(course));
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            // When
+            String query = word(random, syllables);
+            List<Long> ids = index.search(query, "", 0, 2, Integer.MAX_VALUE);
+
+            // Then
+            int maxEdits = query.length() <= 2 ? 0 : query.length() <= 5 ? 1 : 2;
+            Set<Long> expected = new HashSet<>();
+            courses.values().forEach(course -> {
+                if (EditDistance.levenshtein(query, course.getName()) <= maxEdits
+                        || EditDistance.levenshtein(query, course.getAuthor()) <= maxEdits) {
+                    expected.add(course.getId());
+                }
+            });
+            assertThat(ids).as(query).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static String word(Random random, String[] syllables) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 1 + random.nextInt(3); i > 0; i--) {
+            word.append(syllables[random.nextInt(syllables.length)]);
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.catalogue.backend;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import com.example.catalogue.backend.search.CourseRelatedIndex;
+import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseRelatedIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseRelatedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(courseRepository.streamAll()).thenReturn(CourseTestDataFactory.DATA.stream());
+        index = new CourseRelatedIndex(courseRepository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Given built index, when related, then return the most similar other courses first")
+    void givenBuiltIndex_whenRelated_thenReturnMostSimilarFirst() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.related(7L, 1)).contains(List.of(8L));
+        assertThat(index.related(8L, 1)).contains(List.of(7L));
+        assertThat(index.related(6L, 1)).contains(List.of(1L));
+        assertThat(index.related(2L, 1)).contains(List.of(5L));
+        assertThat(index.related(7L, 10).orElseThrow()).doesNotContain(7L).doesNotHaveDuplicates();
+        assertThat(index.related(99L, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given built index, when courses are updated, deleted and cleared, then related courses follow")
+    void givenBuiltIndex_whenCoursesChange_thenRelatedFollow() {
+        // When
+        index.onCourseChanged(CourseChangedEvent.deleted(8L));
+        index.onCourseChanged(CourseChangedEvent.saved(CourseEntity.builder()
+                .id(9L).name("Kotlin for Java Programmers").category("Programming").rating(4)
+                .description("Kotlin programming for Java developers.").author("Ann Lee").build()));
+
+        // Then
+        assertThat(index.related(7L, 1)).contains(List.of(9L));
+        assertThat(index.related(8L, 1)).isEmpty();
+
+        // When
+        index.onCourseChanged(CourseChangedEvent.cleared());
+
+        // Then
+        assertThat(index.related(7L, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given random courses, when related, then match an all-pairs cosine ranking")
+    void givenRandomCourses_whenRelated_thenMatchAllPairsRanking() {
+        // Given
+        index.onCourseChanged(CourseChangedEvent.cleared());
+        Random random = new Random(11);
+        String[] words = {"java", "python", "data", "web", "cloud", "intro", "advanced", "guide", "ml", "ai", "react",
+                "spring", "design", "testing", "security", "mobile", "games", "sql", "linux", "math"};
+        List<CourseEntity> courses = new ArrayList<>();
+        for (long id = 1; id <= 400; id++) {
+            CourseEntity course = CourseEntity.builder()
+                    .id(id)
+                    .name(sentence(random, words, 3))
+                    .category(words[random.nextInt(5)])
+                    .description(sentence(random, words, 8))
+                    .rating(1)
+                    .build();
+            courses.add(course);
+            index.onCourseChanged(CourseChangedEvent.saved(course));
+        }
+
+        // the index refreshes every vector as the catalogue grows, so rebuild to compare against exact weights
+        when(courseRepository.streamAll()).thenReturn(courses.stream());
+        index.rebuild();
+        Map<Long, Map<String, Double>> vectors = vectors(courses);
+
+        for (CourseEntity course : courses.subList(0, 50)) {
+            // When
+            List<Long> related = index.related(course.getId(), 5).orElseThrow();
+
+            // Then
+            Map<String, Double> vector = vectors.get(course.getId());
+            List<Double> expected = courses.stream()
+                    .filter(other -> !other.getId().equals(course.getId()))
+                    .map(other -> cosine(vector, vectors.get(other.getId())))
+                    .filter(score -> score > 0)
+                    .sorted(Comparator.reverseOrder())
+                    .limit(5)
+                    .toList();
+            List<Double> actual = related.stream().map(id -> cosine(vector, vectors.get(id))).toList();
+            assertThat(actual).hasSameSizeAs(expected);
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(actual.get(i)).isCloseTo(expected.get(i), offset(1e-5));
+            }
+        }
+    }
+
+    private static Map<Long, Map<String, Double>> vectors(List<CourseEntity> courses) {
+        Map<Long, Map<String, Integer>> termCounts = new HashMap<>();
+        Map<String, Integer> documents = new HashMap<>();
+        for (CourseEntity course : courses) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (String term : course.getName().split(" ")) {
+                counts.merge(term, 2, Integer::sum);
+            }
+            counts.merge(course.getCategory(), 1, Integer::sum);
+            for (String term : course.getDescription().split(" ")) {
+                counts.merge(term, 1, Integer::sum);
+            }
+            termCounts.put(course.getId(), counts);
+            counts.keySet().forEach(term -> documents.merge(term, 1, Integer::sum));
+        }
+        Map<Long, Map<String, Double>> vectors = new HashMap<>();
+        termCounts.forEach((id, counts) -> {
+            Map<String, Double> vector = new HashMap<>();
+            counts.forEach((term, count) ->
+                    vector.put(term, (1 + Math.log(count)) * Math.log(1 + (double) courses.size() / documents.get(term))));
+            double norm = Math.sqrt(vector.values().stream().mapToDouble(weight -> weight * weight).sum());
+            vector.replaceAll((term, weight) -> weight / norm);
+            vectors.put(id, vector);
+        });
+        return vectors;
+    }
+
+    private static double cosine(Map<String, Double> left, Map<String, Double> right) {
+        double dot = 0;
+        for (Map.Entry<String, Double> entry : left.entrySet()) {
+            dot += entry.getValue() * right.getOrDefault(entry.getKey(), 0.0);
+        }
+        return dot;
+    }
+
+    private static String sentence(Random random, String[] words, int length) {
+        StringJoiner sentence = new StringJoiner(" ");
+        for (int i = 0; i < length; i++) {
+            sentence.add(words[random.nextInt(words.length)]);
+        }
+        return sentence.toString();
+    }
+}
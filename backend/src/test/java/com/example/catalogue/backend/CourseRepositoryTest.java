@@ -14,6 +14,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.Collections;
 import java.util.List;
@@ -30,6 +32,9 @@ class CourseRepositoryTest {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         courseRepository.saveAll(CourseTestDataFactory.DATA);
@@ -57,7 +62,7 @@ class CourseRepositoryTest {
     }
 
     @ParameterizedTest(name = "Find course by ID: {0}")
-    @ValueSource(longs = {-1, 100, 9999})
+    @ValueSource(longs = {-1, 0, 9999})
     @DisplayName("Given course in database, when findById with non-existing course ID, then return empty optional")
     void givenCourseInDatabase_whenFindByIdWithNonExistingId_thenReturnEmptyOptional(Long courseId) {
         // When
@@ -107,6 +112,33 @@ class CourseRepositoryTest {
         assertThat(updatedCourse).usingRecursiveComparison().isEqualTo(course);
     }
 
+    @Test
+    @DisplayName("Given saved and updated course, when reloaded, then lower-cased columns follow the stored values")
+    void givenSavedAndUpdatedCourse_whenReloaded_thenLowerCasedColumnsFollowStoredValues() {
+        // Given
+        var course = CourseTestDataFactory.generateTestCourseToSave();
+        courseRepository.save(course);
+        entityManager.flush();
+        course.setName("Spring In Action");
+        course.setAuthor("Mark DOE");
+        courseRepository.save(course);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        CourseEntity reloaded = courseRepository.findById(course.getId()).orElseThrow();
+
+        // Then
+        assertAll("Lower-cased columns",
+                () -> assertThat(reloaded.getNameLower()).isEqualTo("spring in action"),
+                () -> assertThat(reloaded.getCategoryLower()).isEqualTo("javaee"),
+                () -> assertThat(reloaded.getAuthorLower()).isEqualTo("mark doe"),
+                () -> assertThat(courseRepository.findBestRatedInCategory("JAVAEE", PageRequest.of(0, 10)))
+                        .extracting(CourseEntity::getId)
+                        .containsExactly(course.getId())
+        );
+    }
+
     @ParameterizedTest(name = "Delete course by ID: {0}")
     @ValueSource(longs = {1, 2, 3})
     @DisplayName("Given course in database, when deleteById with existing course ID, then course should be deleted")
@@ -119,7 +151,7 @@ class CourseRepositoryTest {
     }
 
     @ParameterizedTest(name = "Delete course by ID: {0}")
-    @ValueSource(longs = {-1, 100, 9999})
+    @ValueSource(longs = {-1, 0, 9999})
     @DisplayName("Given course in database, when deleteById with non-existing course ID, then no course should be deleted")
     void givenCourseInDatabase_whenDeleteByIdWithNonExistingId_thenNoCourseShouldBeDeleted(Long courseId) {
         // Given a count of courses in the database before attempting to delete
@@ -133,6 +165,129 @@ class CourseRepositoryTest {
         assertThat(courseRepository.findById(courseId)).isEmpty();
     }
 
+    @Test
+    @DisplayName("Given courses in database, when paging by id, then return consecutive bounded pages")
+    void givenCoursesInDatabase_whenFindByIdGreaterThan_thenReturnConsecutivePages() {
+        // Given
+        List<Long> allIds = courseRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.ofSize(100))
+                .map(CourseEntity::getId)
+                .getContent();
+
+        // When
+        var firstPage = courseRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.ofSize(3));
+        var lastId = firstPage.getContent().get(2).getId();
+        var secondPage = courseRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.ofSize(3));
+
+        // Then
+        assertThat(allIds).hasSize(CourseTestDataFactory.DATA.size()).isSorted();
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(firstPage.map(CourseEntity::getId).getContent()).containsExactlyElementsOf(allIds.subList(0, 3));
+        assertThat(secondPage.map(CourseEntity::getId).getContent()).containsExactlyElementsOf(allIds.subList(3, 6));
+    }
+
+    @Test
+    @DisplayName("Given courses in database, when paging by name and by rating, then walk every course in sort order")
+    void givenCoursesInDatabase_whenFindByNameAndRatingAfter_thenWalkEveryCourseInSortOrder() {
+        // Given
+        List<String> names = CourseTestDataFactory.DATA.stream()
+                .map(course -> course.getName().toLowerCase())
+                .sorted()
+                .toList();
+        List<Integer> ratings = CourseTestDataFactory.DATA.stream()
+                .map(CourseEntity::getRating)
+                .sorted(Collections.reverseOrder())
+                .toList();
+
+        // When
+        var firstByName = courseRepository.findByNameAfter("", 0L, PageRequest.ofSize(5));
+        var lastByName = firstByName.getContent().get(4);
+        var secondByName = courseRepository.findByNameAfter(lastByName.getName().toLowerCase(), lastByName.getId(), PageRequest.ofSize(5));
+
+        var firstByRating = courseRepository.findByRatingAfter(Integer.MAX_VALUE, 0L, PageRequest.ofSize(5));
+        var lastByRating = firstByRating.getContent().get(4);
+        var secondByRating = courseRepository.findByRatingAfter(lastByRating.getRating(), lastByRating.getId(), PageRequest.ofSize(5));
+
+        // Then
+        assertThat(firstByName.hasNext()).isTrue();
+        assertThat(secondByName.hasNext()).isFalse();
+        assertThat(Stream.concat(firstByName.stream(), secondByName.stream()).map(course -> course.getName().toLowerCase()))
+                .containsExactlyElementsOf(names);
+        assertThat(firstByRating.hasNext()).isTrue();
+        assertThat(secondByRating.hasNext()).isFalse();
+        assertThat(Stream.concat(firstByRating.stream(), secondByRating.stream()).map(CourseEntity::getRating))
+                .containsExactlyElementsOf(ratings);
+        assertThat(courseRepository.countSimilarCourses("java", "", 0)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Given courses in database, when find by author after and best rated in category, then return them ordered and limited")
+    void givenCoursesInDatabase_whenFindByAuthorAfterAndBestRatedInCategory_thenReturnOrderedAndLimited() {
+        // Given
+        List<String> authors = CourseTestDataFactory.DATA.stream()
+                .map(course -> course.getAuthor().toLowerCase())
+                .sorted()
+                .toList();
+
+        // When
+        var firstByAuthor = courseRepository.findByAuthorAfter("", 0L, PageRequest.ofSize(4));
+        var lastByAuthor = firstByAuthor.getContent().get(3);
+        var secondByAuthor = courseRepository.findByAuthorAfter(lastByAuthor.getAuthor().toLowerCase(), lastByAuthor.getId(), PageRequest.ofSize(4));
+        var bestInWebDevelopment = courseRepository.findBestRatedInCategory("web development", PageRequest.ofSize(1));
+
+        // Then
+        assertThat(Stream.concat(firstByAuthor.stream(), secondByAuthor.stream()).map(course -> course.getAuthor().toLowerCase()))
+                .containsExactlyElementsOf(authors);
+        assertThat(bestInWebDevelopment).extracting(CourseEntity::getName).containsExactly("Web Development Bootcamp");
+    }
+
+    @Test
+    @DisplayName("Given courses in database, when streamAll, then stream every course ordered by id")
+    void givenCoursesInDatabase_whenStreamAll_thenStreamEveryCourseOrderedById() {
+        // When
+        List<CourseEntity> streamed;
+        try (var courses = courseRepository.streamAll()) {
+            streamed = courses.toList();
+        }
+
+        // Then
+        assertThat(streamed).extracting(CourseEntity::getId).isSorted();
+        Assertions.assertThat(streamed).usingRecursiveComparison(
+                RecursiveComparisonConfiguration.builder()
+                        .withIgnoredFields("id")
+                        .build()
+        ).isEqualTo(CourseTestDataFactory.DATA);
+    }
+
+    @Test
+    @DisplayName("Given course in database, when deleteCourseById, then delete it with a single statement")
+    void givenCourseInDatabase_whenDeleteCourseById_thenReturnAffectedRows() {
+        // Given
+        var course = courseRepository.save(CourseTestDataFactory.generateTestCourseToSave());
+
+        // When
+        int deleted = courseRepository.deleteCourseById(course.getId());
+        int deletedAgain = courseRepository.deleteCourseById(course.getId());
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(deletedAgain).isZero();
+        assertThat(courseRepository.findById(course.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given courses in database, when deleteAllCourses, then purge the table")
+    void givenCoursesInDatabase_whenDeleteAllCourses_thenPurgeTable() {
+        // Given
+        long initialCount = courseRepository.count();
+
+        // When
+        int deleted = courseRepository.deleteAllCourses();
+
+        // Then
+        assertThat(deleted).isEqualTo(initialCount);
+        assertThat(courseRepository.count()).isZero();
+    }
+
     @ParameterizedTest(name = "Search courses with name: {0}, category: {1}, and rating: {2}")
     @MethodSource("searchParameters")
     @DisplayName("Given courses in database, when searchSimilarCourses, then return matching courses")
@@ -1,12 +1,17 @@
 package com.example.catalogue.backend;
 
+import com.example.catalogue.backend.api.rest.CourseRestController;
 import com.example.catalogue.backend.exception.CourseNotFoundException;
 import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.service.CatalogueVersion;
 import com.example.catalogue.backend.service.CourseService;
 import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import com.example.catalogue.backend.util.CourseConverter;
 import com.example.catalogue.common.model.Course;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.jayway.jsonpath.JsonPath;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
@@ -18,18 +23,31 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPOutputStream;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -44,6 +62,9 @@ public class CourseRestControllerTest {
 
     private ObjectMapper objectMapper;
 
+    @SpyBean
+    private CatalogueVersion catalogueVersion;
+
     @Autowired
     public CourseRestControllerTest(CourseService courseService, MockMvc mockMvc, ObjectMapper objectMapper) {
         this.courseService = courseService;
@@ -61,7 +82,212 @@ public class CourseRestControllerTest {
         // Then: Verify the response
         result.andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(content().json(objectMapper.writeValueAsString(courseService.getAllCourses())));
+                .andExpect(content().json(objectMapper.writeValueAsString(
+                        StreamSupport.stream(courseService.getAllCourses().spliterator(), false).map(CourseConverter::toModel).toList())));
+    }
+
+    @ParameterizedTest
+    @MethodSource("binaryFormats")
+    @DisplayName("Get All Courses - Return the Binary Representation Negotiated via Accept")
+    void givenBinaryAccept_whenGetAllCourses_thenReturnBinaryCourses(MediaType mediaType, ObjectMapper binaryMapper) throws Exception {
+        // Given
+        MvcResult json = mockMvc.perform(get("/courses/").accept(MediaType.APPLICATION_JSON)).andReturn();
+
+        // When
+        MvcResult binary = mockMvc.perform(get("/courses/").accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(mediaType))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn();
+
+        // Then
+        List<Course> courses = binaryMapper.readValue(binary.getResponse().getContentAsByteArray(), new TypeReference<>() {});
+        Assertions.assertThat(courses)
+                .isEqualTo(objectMapper.readValue(json.getResponse().getContentAsString(), new TypeReference<List<Course>>() {}));
+        Assertions.assertThat(binary.getResponse().getHeader(HttpHeaders.ETAG))
+                .isNotEqualTo(json.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @ParameterizedTest
+    @MethodSource("binaryFormats")
+    @DisplayName("Create Course - Accept a Binary Request Body")
+    void givenBinaryCourse_whenCreateCourse_thenReturnCreatedCourse(MediaType mediaType, ObjectMapper binaryMapper) throws Exception {
+        // Given
+        Course course = CourseConverter.toModel(CourseTestDataFactory.generateTestCourseToSave());
+
+        // When
+        MvcResult result = mockMvc.perform(post("/courses/")
+                        .contentType(mediaType)
+                        .accept(mediaType)
+                        .content(binaryMapper.writeValueAsBytes(course)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(mediaType))
+                .andReturn();
+
+        // Then
+        Course created = binaryMapper.readValue(result.getResponse().getContentAsByteArray(), Course.class);
+        assertNotNull(created.getId());
+        Assertions.assertThat(created).usingRecursiveComparison().ignoringFields("id").isEqualTo(course);
+    }
+
+    private static Stream<Arguments> binaryFormats() {
+        return Stream.of(
+                Arguments.of(MediaType.APPLICATION_CBOR, new CBORMapper()),
+                Arguments.of(MediaType.parseMediaType("application/x-jackson-smile"), new SmileMapper()));
+    }
+
+    @Test
+    @DisplayName("Search Courses - Return the Change Once the Catalogue Version Moves (Given a Created Course)")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenCreatedCourse_whenCatalogueVersionMoves_thenSearchAlreadyReturnsIt() throws Exception {
+        // Given: the search as seen at the moment the version is bumped
+        String etag = mockMvc.perform(get("/courses/"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        List<String> namesWhenBumped = new ArrayList<>();
+        doAnswer(invocation -> {
+            namesWhenBumped.addAll(JsonPath.read(mockMvc.perform(get("/courses/search").param("name", "kotlin"))
+                    .andReturn().getResponse().getContentAsString(), "$[*].name"));
+            return invocation.callRealMethod();
+        }).when(catalogueVersion).onCourseChanged(any());
+
+        // When
+        Long id = courseService.createCourse(CourseEntity.builder()
+                .name("Kotlin Coroutines in Depth")
+                .category("Programming")
+                .rating(4)
+                .description("Structured concurrency with Kotlin coroutines.")
+                .author("Ann Park")
+                .build()).getId();
+
+        // Then: the indexes applied the change before the version, and so the ETag, moved on
+        try {
+            Assertions.assertThat(namesWhenBumped).containsExactly("Kotlin Coroutines in Depth");
+            mockMvc.perform(get("/courses/search").param("name", "kotlin").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].name").value("Kotlin Coroutines in Depth"));
+        } finally {
+            courseService.deleteCourseById(id);
+        }
+    }
+
+    @Test
+    @DisplayName("Get All Courses - Return Not Modified Until the Catalogue Changes (Given Matching ETag)")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenMatchingETag_whenGetAllCourses_thenReturnNotModifiedUntilCatalogueChanges() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/courses/"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When / Then
+        mockMvc.perform(get("/courses/").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/courses/search").param("name", "java").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // When: the catalogue changes (ETags move on commit, so this test runs without the test transaction)
+        Long id = courseService.createCourse(CourseTestDataFactory.generateTestCourseToSave()).getId();
+
+        // Then
+        try {
+            mockMvc.perform(get("/courses/").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+        } finally {
+            courseService.deleteCourseById(id);
+        }
+    }
+
+    @Test
+    @DisplayName("Get Course - Return Not Modified Until the Course Changes (Given Matching ETag)")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenMatchingETag_whenGetCourse_thenReturnNotModifiedUntilCourseChanges() throws Exception {
+        // Given
+        Long id = courseService.createCourse(CourseTestDataFactory.generateTestCourseToSave()).getId();
+        try {
+            String etag = mockMvc.perform(get("/courses/{id}", id))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // When / Then
+            mockMvc.perform(get("/courses/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+
+            // When: the course changes
+            CourseEntity update = CourseTestDataFactory.generateTestCourseToSave();
+            update.setName("Renamed Course");
+            courseService.updateCourse(id, update);
+
+            // Then
+            mockMvc.perform(get("/courses/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("Renamed Course"));
+        } finally {
+            courseService.deleteCourseById(id);
+        }
+    }
+
+    @Test
+    @DisplayName("Get All Courses With Limit - Return Page and Cursor of the Next Page")
+    void givenLimit_whenGetAllCourses_thenReturnPageAndNextCursor() throws Exception {
+        // When: Request the first page
+        ResultActions firstPage = mockMvc.perform(get("/courses/")
+                        .param("limit", "5")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(header().exists(CourseRestController.NEXT_CURSOR_HEADER))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")));
+        String nextCursor = firstPage.andReturn().getResponse().getHeader(CourseRestController.NEXT_CURSOR_HEADER);
+
+        // Then: The second page continues after the first one and is the last page
+        mockMvc.perform(get("/courses/")
+                        .param("after", nextCursor)
+                        .param("limit", "5")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].name").value("Python for Data Analysis"))
+                .andExpect(header().doesNotExist(CourseRestController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("Get All Courses With Invalid Cursor - Return Bad Request Status")
+    void givenInvalidCursor_whenGetAllCourses_thenReturnBadRequestStatus() throws Exception {
+        mockMvc.perform(get("/courses/").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Export Courses - Stream Every Course as Newline-Delimited JSON")
+    void whenExportCourses_thenStreamEveryCourseAsNdjson() throws Exception {
+        // When: Perform GET request to /courses/export and wait for the streamed body
+        MvcResult asyncResult = mockMvc.perform(get("/courses/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+
+        // Then: Every course is written on its own line, ordered by id
+        result.andExpect(status().isOk())
+                .andExpect(content().contentType(CourseRestController.APPLICATION_NDJSON_VALUE));
+        String[] lines = result.andReturn().getResponse().getContentAsString().split("\n");
+        List<Course> exported = Stream.of(lines)
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, Course.class);
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                })
+                .toList();
+        Assertions.assertThat(exported).usingRecursiveComparison(
+                RecursiveComparisonConfiguration.builder()
+                        .withIgnoredFields("id")
+                        .build()
+        ).isEqualTo(CourseTestDataFactory.DATA);
     }
 
     @Test
@@ -97,6 +323,28 @@ public class CourseRestControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("Create Course - Ignore a Client Supplied ID (Given Course Data With an Existing ID)")
+    void givenCourseWithExistingId_whenCreateCourse_thenCreateNewCourse() throws Exception {
+        // Given
+        CourseEntity existing = courseService.getCourseById(1L);
+        CourseEntity course = CourseTestDataFactory.generateTestCourseToSave();
+        course.setId(1L);
+
+        // When
+        MvcResult result = mockMvc.perform(post("/courses/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(course)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        // Then
+        Long id = JsonPath.parse(result.getResponse().getContentAsString()).read("$.id", Long.class);
+        Assertions.assertThat(id).isNotEqualTo(1L);
+        Assertions.assertThat(courseService.getCourseById(id).getName()).isEqualTo(course.getName());
+        Assertions.assertThat(courseService.getCourseById(1L).getName()).isEqualTo(existing.getName());
+    }
+
     @Test
     @DisplayName("Create Course - Return Created Course and Verify in Database (Given Valid Course Data)")
     void givenValidCourseData_whenCreateCourse_thenReturnCreatedCourseAndVerifyInDatabase() throws Exception {
@@ -123,7 +371,128 @@ public class CourseRestControllerTest {
         // And: Verify the course in the database using the service
         CourseEntity retrievedCourse = courseService.getCourseById(id);
         courseToSave.setId(id);
-        Assertions.assertThat(retrievedCourse).usingRecursiveComparison().isEqualTo(courseToSave);
+        Assertions.assertThat(retrievedCourse).usingRecursiveComparison().ignoringFields("version").isEqualTo(courseToSave);
+    }
+
+    @Test
+    @DisplayName("Create Courses - Return Created Ids and Verify in Database (Given Valid Course Data)")
+    void givenValidCoursesData_whenCreateCourses_thenReturnCreatedIdsAndVerifyInDatabase() throws Exception {
+        // Given
+        List<Course> courses = List.of(
+                Course.builder().name("Kotlin Basics").category("Programming").rating(4).author("John Doe").build(),
+                Course.builder().name("Go in Practice").category("Programming").rating(5).author("Jane Smith").build(),
+                Course.builder().name("French for Beginners").category("Languages").rating(3).author("Marie Curie").build());
+
+        // When
+        ResultActions result = mockMvc.perform(post("/courses/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(courses)));
+
+        // Then
+        result.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(3));
+        List<Long> ids = objectMapper.readValue(result.andReturn().getResponse().getContentAsString(), new TypeReference<List<Long>>() {
+        });
+        for (int i = 0; i < ids.size(); i++) {
+            Assertions.assertThat(courseService.getCourseById(ids.get(i)).getName()).isEqualTo(courses.get(i).getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Create Courses - Return Conflict Status (Given Near Duplicates And duplicates=reject)")
+    void givenNearDuplicates_whenCreateCoursesRejectingDuplicates_thenReturnConflictStatus() throws Exception {
+        // Given: a stored course with different case and spacing, and two copies of a new one
+        Course repeated = Course.builder().name("Java programming 101 ").category("Programming").rating(3)
+                .description("Introduction to Java programming").author("John  Doe").build();
+        Course copied = Course.builder().name("Scala Basics").category("Programming").rating(4)
+                .description("Functional programming on the JVM.").author("Jane Smith").build();
+
+        // When / Then
+        mockMvc.perform(post("/courses/")
+                        .param("duplicates", "reject")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(repeated)))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/courses/batch")
+                        .param("duplicates", "reject")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(copied, copied))))
+                .andExpect(status().isConflict())
+                .andExpect(content().string(containsString("course #1 of the request repeats course #0 of the request")));
+        mockMvc.perform(post("/courses/batch")
+                        .param("duplicates", "flag")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(copied, copied))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2));
+        mockMvc.perform(post("/courses/")
+                        .param("duplicates", "maybe")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(copied)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Create Courses - Accept Gzip Compressed Request Body")
+    void givenGzipCompressedBody_whenCreateCourses_thenReturnCreatedIds() throws Exception {
+        // Given
+        List<Course> courses = List.of(
+                Course.builder().name("Rust Fundamentals").category("Programming").rating(4).author("John Doe").build(),
+                Course.builder().name("German for Beginners").category("Languages").rating(3).author("Maria Rodriguez").build());
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(body)) {
+            gzip.write(objectMapper.writeValueAsBytes(courses));
+        }
+
+        // When
+        ResultActions result = mockMvc.perform(post("/courses/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(body.toByteArray()));
+
+        // Then
+        result.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("Create Courses - Return Payload Too Large Status (Given a Gzip Body Inflating Beyond the Limit)")
+    void givenGzipBodyInflatingBeyondLimit_whenCreateCourses_thenReturnPayloadTooLargeStatus() throws Exception {
+        // Given: 11 MB of blanks, which compress to a few KB
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(body)) {
+            gzip.write(new byte[]{'['});
+            gzip.write(" ".repeat(11 * 1024 * 1024).getBytes(StandardCharsets.US_ASCII));
+            gzip.write(new byte[]{']'});
+        }
+
+        // When
+        ResultActions result = mockMvc.perform(post("/courses/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(body.toByteArray()));
+
+        // Then
+        result.andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    @DisplayName("Create Courses - Return Bad Request Status (Given an Invalid Course)")
+    void givenInvalidCourseInBatch_whenCreateCourses_thenReturnBadRequestStatus() throws Exception {
+        // Given
+        List<Course> courses = List.of(
+                Course.builder().name("Kotlin Basics").category("Programming").rating(4).author("John Doe").build(),
+                Course.builder().category("Programming").rating(9).author("Jane Smith").build());
+
+        // When / Then
+        mockMvc.perform(post("/courses/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(courses)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/courses/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
     }
 
     private void assertCourseDetails(ResultActions result, Long id, CourseEntity course) throws Exception {
@@ -164,7 +533,7 @@ public class CourseRestControllerTest {
 
         // And: Verify the updated course in the database using the service
         CourseEntity retrievedCourse = courseService.getCourseById(id);
-        Assertions.assertThat(retrievedCourse).usingRecursiveComparison().isEqualTo(updatedCourse);
+        Assertions.assertThat(retrievedCourse).usingRecursiveComparison().ignoringFields("version").isEqualTo(updatedCourse);
     }
 
     @Test
@@ -212,6 +581,203 @@ public class CourseRestControllerTest {
                 });
     }
 
+    @Test
+    @DisplayName("Search Courses By Text - Return Ranked Matches Filtered By Rating")
+    void whenSearchCoursesByText_thenReturnRankedMatchesFilteredByRating() throws Exception {
+        // Perform GET request to /search/text with free text
+        mockMvc.perform(get("/courses/search/text")
+                        .param("q", "machine learn")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Machine Learning Fundamentals"));
+
+        mockMvc.perform(get("/courses/search/text")
+                        .param("q", "java")
+                        .param("rating", "4")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Java Advanced Topics"));
+    }
+
+    @Test
+    @DisplayName("Search Courses Fuzzy - Return Closest Matches Despite Typos")
+    void whenSearchCoursesFuzzy_thenReturnClosestMatchesDespiteTypos() throws Exception {
+        // Perform GET request to /search with misspelt names and authors
+        mockMvc.perform(get("/courses/search")
+                        .param("name", "Machne Lerning")
+                        .param("fuzzy", "true")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Machine Learning Fundamentals"));
+
+        mockMvc.perform(get("/courses/search")
+                        .param("name", "Jon")
+                        .param("fuzzy", "true")
+                        .param("rating", "4")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Java Advanced Topics"));
+
+        mockMvc.perform(get("/courses/search")
+                        .param("name", "Pyhton")
+                        .param("fuzzy", "true")
+                        .param("maxEdits", "0")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]", true));
+
+        mockMvc.perform(get("/courses/search")
+                        .param("name", "Pyhton")
+                        .param("fuzzy", "true")
+                        .param("maxEdits", "3"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Get Related Courses - Return Most Similar Courses First")
+    void whenGetRelatedCourses_thenReturnMostSimilarCoursesFirst() throws Exception {
+        var javaAdvanced = courseService.searchSimilarCourses("Java Advanced Topics", "", 0).iterator().next();
+        var javaBasics = courseService.searchSimilarCourses("Java Programming 101", "", 0).iterator().next();
+
+        // Perform GET request to /{id}/related
+        mockMvc.perform(get("/courses/{id}/related", javaBasics.getId())
+                        .param("k", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value(javaAdvanced.getName()));
+
+        mockMvc.perform(get("/courses/{id}/related", 100)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/courses/{id}/related", javaBasics.getId())
+                        .param("k", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Get All Courses Sorted - Return Limited Pages In The Requested Order")
+    void whenGetAllCoursesSorted_thenReturnLimitedPagesInOrder() throws Exception {
+        // Perform GET requests to / with a sort order and a limit
+        mockMvc.perform(get("/courses/")
+                        .param("sort", "rating,desc")
+                        .param("limit", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("Web Development Bootcamp"))
+                .andExpect(jsonPath("$[1].rating").value(4))
+                .andExpect(header().exists(CourseRestController.NEXT_CURSOR_HEADER));
+
+        mockMvc.perform(get("/courses/")
+                        .param("sort", "author")
+                        .param("limit", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].author").value("Alex Lee"));
+
+        mockMvc.perform(get("/courses/search")
+                        .param("name", "java")
+                        .param("sort", "name")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Java Advanced Topics"))
+                .andExpect(jsonPath("$[1].name").value("Java Programming 101"));
+
+        String nextCursor = mockMvc.perform(get("/courses/search")
+                        .param("name", "java")
+                        .param("sort", "name")
+                        .param("limit", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Java Advanced Topics"))
+                .andExpect(header().exists(HttpHeaders.LINK))
+                .andReturn().getResponse().getHeader(CourseRestController.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get("/courses/search")
+                        .param("name", "java")
+                        .param("sort", "name")
+                        .param("after", nextCursor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Java Programming 101"))
+                .andExpect(header().doesNotExist(CourseRestController.NEXT_CURSOR_HEADER));
+
+        mockMvc.perform(get("/courses/")
+                        .param("sort", "rating,asc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Get Top Courses - Return Best Rated Courses Of A Category")
+    void whenGetTopCourses_thenReturnBestRatedCoursesOfCategory() throws Exception {
+        // Perform GET request to /top for a category and for the whole catalogue
+        mockMvc.perform(get("/courses/top")
+                        .param("category", "Web Development")
+                        .param("n", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Web Development Bootcamp"));
+
+        mockMvc.perform(get("/courses/top")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(CourseTestDataFactory.DATA.size()))
+                .andExpect(jsonPath("$[0].rating").value(5));
+
+        mockMvc.perform(get("/courses/top")
+                        .param("n", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Get Facets - Return Course Counts Per Category And Rating")
+    void whenGetFacets_thenReturnCountsPerCategoryAndRating() throws Exception {
+        // Perform GET request to /facets, unfiltered and for a name
+        mockMvc.perform(get("/courses/facets")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(CourseTestDataFactory.DATA.size()))
+                .andExpect(jsonPath("$.categories['Data Science']").value(2))
+                .andExpect(jsonPath("$.ratings['4']").value(5));
+
+        mockMvc.perform(get("/courses/facets")
+                        .param("name", "java")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.categories.Programming").value(2));
+    }
+
+    @Test
+    @DisplayName("Suggest - Return Values Starting With Prefix Best Rated First")
+    void whenSuggest_thenReturnValuesStartingWithPrefix() throws Exception {
+        // Perform GET request to /suggest for names and categories
+        mockMvc.perform(get("/courses/suggest")
+                        .param("prefix", "java")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[\"Java Advanced Topics\", \"Java Programming 101\"]", true));
+
+        mockMvc.perform(get("/courses/suggest")
+                        .param("prefix", "data")
+                        .param("field", "category")
+                        .param("limit", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[\"Data Science\"]", true));
+
+        mockMvc.perform(get("/courses/suggest")
+                        .param("prefix", "java")
+                        .param("field", "description"))
+                .andExpect(status().isBadRequest());
+    }
+
     static Stream<Arguments> searchParameters() {
         List<CourseEntity> testData = CourseTestDataFactory.DATA;
         return Stream.of(
@@ -2,10 +2,25 @@ package com.example.catalogue.backend;
 
 import com.example.catalogue.backend.exception.CourseNotFoundException;
 import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
 import com.example.catalogue.backend.repository.CourseRepository;
+import com.example.catalogue.backend.exception.DuplicateCourseException;
+import com.example.catalogue.backend.search.CourseDuplicateIndex;
+import com.example.catalogue.backend.search.CourseFacetIndex;
+import com.example.catalogue.backend.search.CourseFuzzyIndex;
+import com.example.catalogue.backend.search.CourseRelatedIndex;
+import com.example.catalogue.backend.search.CourseSuggester;
+import com.example.catalogue.backend.search.CourseTextIndex;
+import com.example.catalogue.backend.search.CourseTopIndex;
+import com.example.catalogue.backend.search.CourseTrigramIndex;
+import com.example.catalogue.backend.search.NearDuplicate;
+import com.example.catalogue.backend.service.CourseCursor;
 import com.example.catalogue.backend.service.CourseService;
 import com.example.catalogue.backend.service.CourseServiceImpl;
+import com.example.catalogue.backend.service.CourseSort;
+import com.example.catalogue.backend.service.DuplicatePolicy;
 import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,10 +30,14 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,8 +50,38 @@ public class CourseServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private CourseTrigramIndex trigramIndex;
+
+    @Mock
+    private CourseTextIndex textIndex;
+
+    @Mock
+    private CourseFacetIndex facetIndex;
+
+    @Mock
+    private CourseSuggester suggester;
+
+    @Mock
+    private CourseFuzzyIndex fuzzyIndex;
+
+    @Mock
+    private CourseRelatedIndex relatedIndex;
+
+    @Mock
+    private CourseDuplicateIndex duplicateIndex;
+
+    @Mock
+    private CourseTopIndex topIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
-    private CourseService courseService = new CourseServiceImpl(courseRepository);
+    private CourseService courseService = new CourseServiceImpl(courseRepository, trigramIndex, textIndex, facetIndex, suggester, fuzzyIndex, relatedIndex, duplicateIndex, topIndex, eventPublisher, 100, 1000, 3, DuplicatePolicy.ALLOW);
 
     @Test
     @DisplayName("Given courses in database, when findAll, then return all courses")
@@ -58,6 +107,34 @@ public class CourseServiceTest {
         verifyNoMoreInteractions(courseRepository);
     }
 
+    @ParameterizedTest(name = "Page after id {0} with limit {1} uses page size {2}")
+    @MethodSource("pageParameters")
+    @DisplayName("Given cursor and limit, when getCoursesAfter, then run bounded keyset query")
+    void givenCursorAndLimit_whenGetCoursesAfter_thenRunBoundedKeysetQuery(Long afterId, Integer limit, long expectedAfterId, int expectedPageSize) {
+        // Given
+        var pageRequest = PageRequest.ofSize(expectedPageSize);
+        var page = new SliceImpl<>(CourseTestDataFactory.DATA.subList(0, 2), pageRequest, true);
+        when(courseRepository.findByIdGreaterThanOrderByIdAsc(expectedAfterId, pageRequest)).thenReturn(page);
+
+        // When
+        var result = courseService.getCoursesAfter(afterId, limit);
+
+        // Then
+        assertThat(result.getContent()).containsExactlyElementsOf(page.getContent());
+        assertThat(result.hasNext()).isTrue();
+        verify(courseRepository, times(1)).findByIdGreaterThanOrderByIdAsc(expectedAfterId, pageRequest);
+        verifyNoMoreInteractions(courseRepository);
+    }
+
+    static Stream<Arguments> pageParameters() {
+        return Stream.of(
+                Arguments.of(null, null, 0L, 100),
+                Arguments.of(5L, 2, 5L, 2),
+                Arguments.of(5L, 0, 5L, 1),
+                Arguments.of(5L, 50_000, 5L, 1000)
+        );
+    }
+
     @Test
     @DisplayName("Given course in database, when findById, then return course")
     void givenCourseInDatabase_whenFindById_thenReturnCourse() {
@@ -119,6 +196,76 @@ public class CourseServiceTest {
 
         verify(courseRepository, times(1)).save(courseToSave);
         verifyNoMoreInteractions(courseRepository);
+        verify(eventPublisher, times(1)).publishEvent(CourseChangedEvent.saved(savedCourse));
+        verifyNoInteractions(duplicateIndex);
+    }
+
+    @Test
+    @DisplayName("Given valid courses, when createCourses, then persist them in flushed chunks and return their ids")
+    void givenValidCourses_whenCreateCourses_thenPersistInFlushedChunksAndReturnIds() {
+        // Given: Eight new courses and a bulk chunk size of three
+        List<CourseEntity> coursesToSave = CourseTestDataFactory.DATA.stream()
+                .map(course -> CourseEntity.builder()
+                        .id(course.getId())
+                        .name(course.getName())
+                        .category(course.getCategory())
+                        .rating(course.getRating())
+                        .author(course.getAuthor())
+                        .build())
+                .toList();
+        var sequence = new AtomicLong(100);
+        when(courseRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<CourseEntity> chunk = invocation.getArgument(0);
+            chunk.forEach(course -> {
+                assertThat(course.getId()).isNull();
+                course.setId(sequence.incrementAndGet());
+            });
+            return chunk;
+        });
+
+        // When
+        List<Long> ids = courseService.createCourses(coursesToSave);
+
+        // Then
+        assertThat(ids).containsExactly(101L, 102L, 103L, 104L, 105L, 106L, 107L, 108L);
+        verify(courseRepository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+        verify(eventPublisher, times(8)).publishEvent(any(CourseChangedEvent.class));
+        verifyNoMoreInteractions(courseRepository);
+    }
+
+    @Test
+    @DisplayName("Given near-duplicate courses, when createCourses rejecting duplicates, then throw and store nothing")
+    void givenNearDuplicates_whenCreateCoursesRejectingDuplicates_thenThrowAndStoreNothing() {
+        // Given
+        List<CourseEntity> coursesToSave = List.of(CourseTestDataFactory.generateTestCourseToSave());
+        when(duplicateIndex.findNearDuplicates(coursesToSave)).thenReturn(List.of(new NearDuplicate(0, 7L, null, 0.9)));
+
+        // When
+        DuplicateCourseException exception = assertThrows(DuplicateCourseException.class,
+                () -> courseService.createCourses(coursesToSave, DuplicatePolicy.REJECT));
+
+        // Then
+        assertThat(exception.getDuplicates()).extracting(NearDuplicate::courseId).containsExactly(7L);
+        verifyNoInteractions(courseRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Given near-duplicate course, when createCourse flagging duplicates, then store it anyway")
+    void givenNearDuplicate_whenCreateCourseFlaggingDuplicates_thenStoreIt() {
+        // Given
+        CourseEntity courseToSave = CourseTestDataFactory.generateTestCourseToSave();
+        CourseEntity savedCourse = CourseTestDataFactory.generateTestSavedCourse();
+        when(duplicateIndex.findNearDuplicates(List.of(courseToSave))).thenReturn(List.of(new NearDuplicate(0, 7L, null, 0.9)));
+        when(courseRepository.save(courseToSave)).thenReturn(savedCourse);
+
+        // When
+        CourseEntity result = courseService.createCourse(courseToSave, DuplicatePolicy.FLAG);
+
+        // Then
+        assertThat(result).isSameAs(savedCourse);
+        verify(eventPublisher).publishEvent(CourseChangedEvent.saved(savedCourse));
     }
 
     @Test
@@ -152,14 +299,15 @@ public class CourseServiceTest {
     void givenCourseInDatabase_whenDelete_thenCourseShouldBeDeleted() {
         // Given
         var course = CourseTestDataFactory.generateTestSavedCourse();
-        when(courseRepository.findById(course.getId())).thenReturn(Optional.of(course));
+        when(courseRepository.deleteCourseById(course.getId())).thenReturn(1);
 
         // When and Then
         assertDoesNotThrow(() -> courseService.deleteCourseById(course.getId()));
 
         // Then
-        verify(courseRepository, times(1)).deleteById(course.getId());
-
+        verify(courseRepository, times(1)).deleteCourseById(course.getId());
+        verifyNoMoreInteractions(courseRepository);
+        verify(eventPublisher, times(1)).publishEvent(CourseChangedEvent.deleted(course.getId()));
     }
 
     @Test
@@ -170,7 +318,7 @@ public class CourseServiceTest {
 
         // Then
         assertThat(courseService.getAllCourses()).isEmpty();
-        verify(courseRepository, times(1)).deleteAll();
+        verify(courseRepository, times(1)).deleteAllCourses();
     }
 
     @Test
@@ -178,14 +326,15 @@ public class CourseServiceTest {
     void givenNonExistingCourseId_whenDeleteCourseById_thenThrowCourseNotFoundException() {
         // Given
         Long nonExistingCourseId = 999L;
-        when(courseRepository.findById(eq(nonExistingCourseId))).thenReturn(Optional.empty());
+        when(courseRepository.deleteCourseById(eq(nonExistingCourseId))).thenReturn(0);
 
         // When and Then
         CourseNotFoundException exception = assertThrows(CourseNotFoundException.class,
                 () -> courseService.deleteCourseById(nonExistingCourseId));
 
         assertThat(exception).hasMessage(String.format("No course with id %s is available", nonExistingCourseId));
-        verify(courseRepository, times(1)).findById(eq(nonExistingCourseId));
+        verify(courseRepository, times(1)).deleteCourseById(eq(nonExistingCourseId));
+        verifyNoInteractions(eventPublisher);
     }
 
     @ParameterizedTest(name = "Search courses with name: {0}, category: {1}, and rating: {2}")
@@ -206,6 +355,136 @@ public class CourseServiceTest {
         verify(courseRepository, times(1)).searchSimilarCourses(name, category, rating);
     }
 
+    @Test
+    @DisplayName("Given ready trigram index, when searchSimilarCourses, then load index hits by id in id order")
+    void givenReadyTrigramIndex_whenSearchSimilarCourses_thenLoadIndexHitsInIdOrder() {
+        // Given
+        var javaCourses = CourseTestDataFactory.DATA.subList(6, 8);
+        when(trigramIndex.isReady()).thenReturn(true);
+        when(trigramIndex.search("java", "", 0)).thenReturn(List.of(7L, 8L));
+        when(courseRepository.findAllById(List.of(7L, 8L))).thenReturn(List.of(javaCourses.get(1), javaCourses.get(0)));
+
+        // When
+        Iterable<CourseEntity> matchingCourses = courseService.searchSimilarCourses("java", "", 0);
+
+        // Then
+        assertThat(matchingCourses).containsExactlyElementsOf(javaCourses);
+        verify(courseRepository, never()).searchSimilarCourses(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Given ready trigram index, when searchSimilarCourses with a sort and cursor, then load only the next page")
+    void givenReadyTrigramIndex_whenSearchSimilarCoursesPage_thenLoadOnlyNextPage() {
+        // Given
+        var after = new CourseCursor(CourseSort.NAME.key(CourseTestDataFactory.DATA.get(2)), 3L, 1);
+        var javaCourses = CourseTestDataFactory.DATA.subList(6, 8);
+        when(trigramIndex.isReady()).thenReturn(true);
+        when(trigramIndex.search("", "", 0, CourseSort.NAME, after, 3)).thenReturn(List.of(8L, 7L, 1L));
+        when(courseRepository.findAllById(List.of(8L, 7L, 1L)))
+                .thenReturn(List.of(CourseTestDataFactory.DATA.get(0), javaCourses.get(0), javaCourses.get(1)));
+
+        // When
+        var page = courseService.searchSimilarCourses("", "", 0, CourseSort.NAME, after, 2);
+
+        // Then
+        assertThat(page.getContent()).containsExactly(javaCourses.get(1), javaCourses.get(0));
+        assertThat(page.hasNext()).isTrue();
+        verify(courseRepository, never()).searchSimilarCourses(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Given ready text index, when searchCoursesByText, then return the loaded hits in rank order")
+    void givenReadyTextIndex_whenSearchCoursesByText_thenReturnHitsInRankOrder() {
+        // Given
+        var javaCourses = CourseTestDataFactory.DATA.subList(6, 8);
+        when(textIndex.isReady()).thenReturn(true);
+        when(textIndex.search("advanced java", 0, 100)).thenReturn(List.of(8L, 7L));
+        when(courseRepository.findAllById(List.of(8L, 7L))).thenReturn(javaCourses);
+
+        // When
+        List<CourseEntity> matchingCourses = courseService.searchCoursesByText("advanced java", 0, null);
+
+        // Then
+        assertThat(matchingCourses).containsExactly(javaCourses.get(1), javaCourses.get(0));
+        verify(courseRepository, never()).searchSimilarCourses(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Given ready fuzzy index, when searchSimilarCoursesFuzzy, then return the loaded hits in rank order")
+    void givenReadyFuzzyIndex_whenSearchSimilarCoursesFuzzy_thenReturnHitsInRankOrder() {
+        // Given
+        var javaCourses = CourseTestDataFactory.DATA.subList(6, 8);
+        when(fuzzyIndex.isReady()).thenReturn(true);
+        when(fuzzyIndex.search("jaav", "", 0, 2, 10)).thenReturn(List.of(8L, 7L));
+        when(courseRepository.findAllById(List.of(8L, 7L))).thenReturn(javaCourses);
+
+        // When
+        List<CourseEntity> matchingCourses = courseService.searchSimilarCoursesFuzzy("jaav", "", 0, 2, 10);
+
+        // Then
+        assertThat(matchingCourses).containsExactly(javaCourses.get(1), javaCourses.get(0));
+        verify(courseRepository, never()).searchSimilarCourses(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Given ready related index, when getRelatedCourses, then return the loaded courses in similarity order")
+    void givenReadyRelatedIndex_whenGetRelatedCourses_thenReturnCoursesInSimilarityOrder() {
+        // Given
+        var javaCourses = CourseTestDataFactory.DATA.subList(6, 8);
+        when(relatedIndex.isReady()).thenReturn(true);
+        when(relatedIndex.related(6L, 2)).thenReturn(Optional.of(List.of(8L, 7L)));
+        when(courseRepository.findAllById(List.of(8L, 7L))).thenReturn(javaCourses);
+
+        // When
+        List<CourseEntity> relatedCourses = courseService.getRelatedCourses(6L, 2);
+
+        // Then
+        assertThat(relatedCourses).containsExactly(javaCourses.get(1), javaCourses.get(0));
+    }
+
+    @Test
+    @DisplayName("Given unknown course id, when getRelatedCourses, then throw CourseNotFoundException")
+    void givenUnknownCourseId_whenGetRelatedCourses_thenThrowCourseNotFoundException() {
+        // Given
+        when(relatedIndex.isReady()).thenReturn(true);
+        when(relatedIndex.related(99L, 10)).thenReturn(Optional.empty());
+        when(courseRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(CourseNotFoundException.class, () -> courseService.getRelatedCourses(99L, 10));
+    }
+
+    @Test
+    @DisplayName("Given ready top index, when getTopCourses, then return the loaded courses best rated first")
+    void givenReadyTopIndex_whenGetTopCourses_thenReturnCoursesBestRatedFirst() {
+        // Given
+        var dataScience = List.of(CourseTestDataFactory.DATA.get(0), CourseTestDataFactory.DATA.get(5));
+        when(topIndex.isReady()).thenReturn(true);
+        when(topIndex.top("Data Science", 2)).thenReturn(List.of(1L, 6L));
+        when(courseRepository.findAllById(List.of(1L, 6L))).thenReturn(dataScience);
+
+        // When
+        List<CourseEntity> topCourses = courseService.getTopCourses("Data Science", 2);
+
+        // Then
+        assertThat(topCourses).containsExactlyElementsOf(dataScience);
+        verify(courseRepository, never()).findBestRatedInCategory(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Given top index not ready, when getTopCourses, then read the best rated courses with a limited query")
+    void givenTopIndexNotReady_whenGetTopCourses_thenReadLimitedQuery() {
+        // Given
+        var dataScience = List.of(CourseTestDataFactory.DATA.get(0));
+        when(courseRepository.findBestRatedInCategory("Data Science", PageRequest.ofSize(1))).thenReturn(dataScience);
+
+        // When
+        List<CourseEntity> topCourses = courseService.getTopCourses(" Data Science ", 1);
+
+        // Then
+        assertThat(topCourses).containsExactlyElementsOf(dataScience);
+    }
+
     static Stream<Arguments> searchParameters() {
         List<CourseEntity> testData = CourseTestDataFactory.DATA;
         return Stream.of(
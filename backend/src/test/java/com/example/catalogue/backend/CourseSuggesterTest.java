@@ -0,0 +1,118 @@
+package com.example.catalogue.backend;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import com.example.catalogue.backend.search.CourseSuggester;
+import com.example.catalogue.backend.search.CourseSuggester.Field;
+import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseSuggesterTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        when(courseRepository.streamAll()).thenReturn(CourseTestDataFactory.DATA.stream());
+        suggester = new CourseSuggester(courseRepository, 5);
+        suggester.rebuild();
+    }
+
+    @Test
+    @DisplayName("Given built suggestions, when suggest a prefix, then return distinct values best rated first")
+    void givenBuiltSuggestions_whenSuggest_thenReturnDistinctValuesBestRatedFirst() {
+        assertThat(suggester.suggest(Field.NAME, "JAVA", null)).containsExactly("Java Advanced Topics", "Java Programming 101");
+        assertThat(suggester.suggest(Field.NAME, "java p", null)).containsExactly("Java Programming 101");
+        assertThat(suggester.suggest(Field.CATEGORY, "", null))
+                .containsExactly("Web Development", "Data Science", "Programming", "Artificial Intelligence", "Languages");
+        assertThat(suggester.suggest(Field.AUTHOR, "j", 1)).containsExactly("John Doe");
+        assertThat(suggester.suggest(Field.AUTHOR, "m", null)).containsExactly("Mike Johnson", "Maria Rodriguez");
+        assertThat(suggester.suggest(Field.NAME, "javax", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given built suggestions, when courses are updated, deleted and cleared, then suggestions follow")
+    void givenBuiltSuggestions_whenCoursesChange_thenSuggestionsFollow() {
+        // When
+        suggester.onCourseChanged(CourseChangedEvent.saved(CourseEntity.builder()
+                .id(7L).name("Java Programming 101").category("Programming").rating(5).author("John Doe").build()));
+        suggester.onCourseChanged(CourseChangedEvent.deleted(8L));
+        suggester.onCourseChanged(CourseChangedEvent.saved(CourseEntity.builder()
+                .id(9L).name("Javascript Basics").category("Web Development").rating(2).author("Ann Lee").build()));
+
+        // Then
+        assertThat(suggester.suggest(Field.NAME, "java", null)).containsExactly("Java Programming 101", "Javascript Basics");
+        assertThat(suggester.suggest(Field.CATEGORY, "pro", null)).containsExactly("Programming");
+
+        // When
+        suggester.onCourseChanged(CourseChangedEvent.cleared());
+
+        // Then
+        assertThat(suggester.suggest(Field.NAME, "", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given random additions and removals, when suggest any prefix, then match a brute-force ranking")
+    void givenRandomChanges_whenSuggest_thenMatchBruteForce() {
+        // Given
+        suggester.onCourseChanged(CourseChangedEvent.cleared());
+        Random random = new Random(42);
+        String[] words = {"a", "ab", "abc", "abd", "b", "ba", "bab", "abcd", "c"};
+        Map<Long, CourseEntity> courses = new HashMap<>();
+        for (long id = 1; id <= 2000; id++) {
+            long courseId = random.nextInt(60);
+            if (random.nextInt(4) == 0) {
+                courses.remove(courseId);
+                suggester.onCourseChanged(CourseChangedEvent.deleted(courseId));
+            } else {
+                CourseEntity course = CourseEntity.builder()
+                        .id(courseId)
+                        .name(words[random.nextInt(words.length)] + words[random.nextInt(words.length)])
+                        .category("c")
+                        .author("a")
+                        .rating(1 + random.nextInt(5))
+                        .build();
+                courses.put(courseId, course);
+                suggester.onCourseChanged(CourseChangedEvent.saved(course));
+            }
+        }
+
+        // Then
+        for (String word : words) {
+            for (String prefix : List.of(word, word.substring(0, 1), word + "a")) {
+                assertThat(suggester.suggest(Field.NAME, prefix, null)).as(prefix)
+                        .containsExactlyElementsOf(bruteForce(courses.values(), prefix, 5));
+            }
+        }
+    }
+
+    private static List<String> bruteForce(Collection<CourseEntity> courses, String prefix, int limit) {
+        Map<String, List<CourseEntity>> byName = courses.stream()
+                .filter(course -> course.getName().startsWith(prefix))
+                .collect(Collectors.groupingBy(CourseEntity::getName));
+        return byName.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<String, List<CourseEntity>>>comparingInt(entry ->
+                                entry.getValue().stream().mapToInt(CourseEntity::getRating).max().orElse(0)).reversed()
+                        .thenComparing(Comparator.<Map.Entry<String, List<CourseEntity>>>comparingInt(entry -> entry.getValue().size()).reversed())
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
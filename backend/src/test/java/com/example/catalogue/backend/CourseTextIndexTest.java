@@ -0,0 +1,76 @@
+package com.example.catalogue.backend;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import com.example.catalogue.backend.search.CourseTextIndex;
+import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseTextIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @TempDir
+    private Path indexDir;
+
+    private CourseTextIndex textIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(courseRepository.streamAll()).thenReturn(CourseTestDataFactory.DATA.stream());
+        textIndex = new CourseTextIndex(courseRepository, indexDir.toString());
+        textIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        textIndex.close();
+    }
+
+    @Test
+    @DisplayName("Given built index, when searching free text, then rank stemmed and prefix matches best first")
+    void givenBuiltIndex_whenSearchFreeText_thenRankMatchesBestFirst() {
+        assertThat(textIndex.isReady()).isTrue();
+        assertThat(textIndex.search("machine learn", 0, 10)).startsWith(1L);
+        assertThat(textIndex.search("intro java", 0, 10)).startsWith(7L).contains(8L);
+        assertThat(textIndex.search("John Doe", 0, 2)).containsExactlyInAnyOrder(7L, 8L);
+        assertThat(textIndex.search("java", 4, 10)).containsExactly(8L);
+        assertThat(textIndex.search("data", 0, 1)).hasSize(1);
+        assertThat(textIndex.search("the", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given built index, when courses are saved, deleted and cleared, then the next search sees the changes")
+    void givenBuiltIndex_whenCoursesChange_thenNextSearchSeesChanges() {
+        // When
+        textIndex.onCourseChanged(CourseChangedEvent.saved(CourseEntity.builder()
+                .id(9L).name("Kotlin for Java Developers").category("Programming").rating(5).author("Ann Lee").build()));
+        textIndex.onCourseChanged(CourseChangedEvent.deleted(8L));
+
+        // Then
+        assertThat(textIndex.search("kotlin", 0, 10)).containsExactly(9L);
+        assertThat(textIndex.search("java", 4, 10)).containsExactly(9L);
+
+        // When
+        textIndex.onCourseChanged(CourseChangedEvent.cleared());
+
+        // Then
+        assertThat(textIndex.search("java", 0, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.catalogue.backend;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import com.example.catalogue.backend.search.CourseTopIndex;
+import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseTopIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseTopIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(courseRepository.streamAll()).thenReturn(CourseTestDataFactory.DATA.stream());
+        index = new CourseTopIndex(courseRepository, 3);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Given built index, when top, then return the best rated courses of the category first")
+    void givenBuiltIndex_whenTop_thenReturnBestRatedFirst() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.top("", 3)).containsExactly(2L, 1L, 3L);
+        assertThat(index.top(" data science", 10)).containsExactly(1L, 6L);
+        assertThat(index.top("Programming", 1)).containsExactly(8L);
+        assertThat(index.top("Cooking", 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given built index, when kept courses are updated and deleted, then refill from the other courses")
+    void givenBuiltIndex_whenKeptCoursesChange_thenRefill() {
+        // When
+        index.onCourseChanged(CourseChangedEvent.deleted(2L));
+        index.onCourseChanged(CourseChangedEvent.saved(CourseEntity.builder()
+                .id(1L).name("Machine Learning Fundamentals").category("Data Science").rating(2).author("Jane Smith").build()));
+
+        // Then
+        assertThat(index.top("", 3)).containsExactly(3L, 5L, 6L);
+        assertThat(index.top("data science", 3)).containsExactly(6L, 1L);
+        assertThat(index.top("web development", 3)).containsExactly(5L);
+
+        // When
+        index.onCourseChanged(CourseChangedEvent.saved(CourseEntity.builder()
+                .id(4L).name("Spanish for Beginners").category("Languages").rating(5).author("Maria Rodriguez").build()));
+
+        // Then
+        assertThat(index.top("", 1)).containsExactly(4L);
+
+        // When
+        index.onCourseChanged(CourseChangedEvent.cleared());
+
+        // Then
+        assertThat(index.top("", 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given random changes, when top, then match sorting every course")
+    void givenRandomChanges_whenTop_thenMatchFullSort() {
+        // Given
+        index.onCourseChanged(CourseChangedEvent.cleared());
+        Random random = new Random(3);
+        String[] categories = {"a", "b", "c"};
+        Map<Long, CourseEntity> courses = new HashMap<>();
+        Comparator<CourseEntity> bestFirst = Comparator.comparingInt(CourseEntity::getRating).reversed()
+                .thenComparing(CourseEntity::getId);
+        for (int i = 0; i < 3000; i++) {
+            long courseId = random.nextInt(50);
+            if (random.nextInt(3) == 0) {
+                courses.remove(courseId);
+                index.onCourseChanged(CourseChangedEvent.deleted(courseId));
+            } else {
+                CourseEntity course = CourseEntity.builder()
+                        .id(courseId)
+                        .category(categories[random.nextInt(categories.length)])
+                        .rating(1 + random.nextInt(5))
+                        .build();
+                courses.put(courseId, course);
+                index.onCourseChanged(CourseChangedEvent.saved(course));
+            }
+
+            // When
+            String category = random.nextBoolean() ? "" : categories[random.nextInt(categories.length)];
+            List<Long> top = index.top(category, 3);
+
+            // Then
+            List<Long> expected = courses.values().stream()
+                    .filter(course -> category.isEmpty() || course.getCategory().equals(category))
+                    .sorted(bestFirst)
+                    .limit(3)
+                    .map(CourseEntity::getId)
+                    .toList();
+            assertThat(top).as("top of '%s' after %d changes", category, i).containsExactlyElementsOf(expected);
+        }
+    }
+}
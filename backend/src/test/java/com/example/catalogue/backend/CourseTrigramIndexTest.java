@@ -0,0 +1,155 @@
+package com.example.catalogue.backend;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.repository.CourseRepository;
+import com.example.catalogue.backend.search.CourseTrigramIndex;
+import com.example.catalogue.backend.service.CourseCursor;
+import com.example.catalogue.backend.service.CourseSort;
+import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseTrigramIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseTrigramIndex trigramIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(courseRepository.streamAll()).thenReturn(CourseTestDataFactory.DATA.stream());
+        trigramIndex = new CourseTrigramIndex(courseRepository);
+        trigramIndex.rebuild();
+    }
+
+    @ParameterizedTest(name = "Search courses with name: {0}, category: {1}, and rating: {2}")
+    @MethodSource("searchParameters")
+    @DisplayName("Given built index, when search, then return ids of matching courses in id order")
+    void givenBuiltIndex_whenSearch_thenReturnMatchingIds(String name, String category, int rating, List<Long> expectedIds) {
+        assertThat(trigramIndex.isReady()).isTrue();
+        assertThat(trigramIndex.search(name, category, rating)).containsExactlyElementsOf(expectedIds);
+    }
+
+    static Stream<Arguments> searchParameters() {
+        return Stream.of(
+                Arguments.of("Web", "", 0, List.of(2L)),
+                Arguments.of("", "Programming", 0, List.of(7L, 8L)),
+                Arguments.of("", "Languages", 2, List.of(4L)),
+                Arguments.of("", "", 5, List.of(2L)),
+                Arguments.of("", "", 0, List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L)),
+                Arguments.of("JAVA", "program", 4, List.of(8L)),
+                Arguments.of("ar", "", 0, List.of(1L, 3L)),
+                Arguments.of("ing f", "", 0, List.of(1L)),
+                Arguments.of("NonExistentCourse", "NonExistentCourse", 0, List.of())
+        );
+    }
+
+    @Test
+    @DisplayName("Given built index, when searching page by page in an order, then walk every match once in that order")
+    void givenBuiltIndex_whenSearchSortedPages_thenWalkEveryMatchInOrder() {
+        // When
+        var firstPage = trigramIndex.search("", "", 4, CourseSort.RATING, null, 3);
+        var last = CourseTestDataFactory.DATA.get((int) (firstPage.get(2) - 1));
+        var secondPage = trigramIndex.search("", "", 4, CourseSort.RATING, new CourseCursor(CourseSort.RATING.key(last), last.getId(), 3), 3);
+
+        // Then
+        assertThat(firstPage).containsExactly(2L, 1L, 3L);
+        assertThat(secondPage).containsExactly(5L, 6L, 8L);
+        assertThat(trigramIndex.search("java", "", 0, CourseSort.NAME, null, 10)).containsExactly(8L, 7L);
+        assertThat(trigramIndex.search("", "", 0, CourseSort.AUTHOR, null, 3)).containsExactly(3L, 5L, 6L);
+        assertThat(trigramIndex.count("", "", 4)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Given built index, when courses are saved and deleted, then search reflects the changes")
+    void givenBuiltIndex_whenCoursesChange_thenSearchReflectsChanges() {
+        // When
+        trigramIndex.onCourseChanged(CourseChangedEvent.saved(course(7L, "Kotlin Programming 101", "Programming", 3)));
+        trigramIndex.onCourseChanged(CourseChangedEvent.saved(course(9L, "Java Streams", "Programming", 5)));
+        trigramIndex.onCourseChanged(CourseChangedEvent.deleted(8L));
+
+        // Then
+        assertThat(trigramIndex.search("java", "", 0)).containsExactly(9L);
+        assertThat(trigramIndex.search("kotlin", "programming", 0)).containsExactly(7L);
+        assertThat(trigramIndex.search("", "programming", 4)).containsExactly(9L);
+    }
+
+    @Test
+    @DisplayName("Given many updates, when tombstones are compacted, then search results are unchanged")
+    void givenManyUpdates_whenCompacted_thenSearchResultsUnchanged() {
+        // When: rewrite the same courses often enough to trigger compaction
+        for (int round = 0; round < 500; round++) {
+            CourseTestDataFactory.DATA.forEach(course -> trigramIndex.onCourseChanged(CourseChangedEvent.saved(course)));
+        }
+
+        // Then
+        assertThat(trigramIndex.search("", "", 0)).containsExactlyElementsOf(LongStream.rangeClosed(1, 8).boxed().toList());
+        assertThat(trigramIndex.search("java", "", 0)).containsExactly(7L, 8L);
+    }
+
+    @Test
+    @DisplayName("Given built index, when catalogue is cleared, then search returns nothing")
+    void givenBuiltIndex_whenCleared_thenSearchReturnsNothing() {
+        // When
+        trigramIndex.onCourseChanged(CourseChangedEvent.cleared());
+
+        // Then
+        assertThat(trigramIndex.search("", "", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given null fragment, when search or count, then match nothing like the repository query")
+    void givenNullFragment_whenSearchOrCount_thenMatchNothing() {
+        assertThat(trigramIndex.search(null, "", 0)).isEmpty();
+        assertThat(trigramIndex.search("", null, 0)).isEmpty();
+        assertThat(trigramIndex.search(null, "", 0, CourseSort.NAME, null, 10)).isEmpty();
+        assertThat(trigramIndex.count("", null, 0)).isZero();
+        assertThat(CourseTrigramIndex.matches(CourseTestDataFactory.DATA.get(0), null, "", 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Given rebuild in progress, when searched and changed meanwhile, then serve old documents and keep the change")
+    void givenRebuildInProgress_whenSearchedAndChanged_thenServeOldDocumentsAndKeepChange() {
+        // Given: the table is streamed again, another thread searches and a course is saved meanwhile
+        List<List<Long>> searchedDuringRebuild = new ArrayList<>();
+        when(courseRepository.streamAll()).thenReturn(CourseTestDataFactory.DATA.stream().peek(course -> {
+            if (course.getId() == 1L) {
+                searchedDuringRebuild.add(CompletableFuture.supplyAsync(() -> trigramIndex.search("java", "", 0))
+                        .orTimeout(5, TimeUnit.SECONDS)
+                        .join());
+                trigramIndex.onCourseChanged(CourseChangedEvent.saved(course(9L, "Java Streams", "Programming", 5)));
+            }
+        }));
+
+        // When
+        trigramIndex.rebuild();
+
+        // Then
+        assertThat(searchedDuringRebuild).containsExactly(List.of(7L, 8L));
+        assertThat(trigramIndex.search("java", "", 0)).containsExactly(7L, 8L, 9L);
+    }
+
+    private static CourseEntity course(Long id, String name, String category, int rating) {
+        return CourseEntity.builder().id(id).name(name).category(category).rating(rating).author("John Doe").build();
+    }
+}
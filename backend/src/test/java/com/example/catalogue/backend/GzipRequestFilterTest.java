@@ -0,0 +1,177 @@
+package com.example.catalogue.backend;
+
+import com.example.catalogue.backend.config.GzipRequestFilter;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GzipRequestFilterTest {
+
+    private final GzipRequestFilter filter = new GzipRequestFilter(DataSize.ofKilobytes(1));
+
+    @Test
+    @DisplayName("Given gzip body, when read blocking, then the handler reads the inflated body without encoding headers")
+    void givenGzipBody_whenReadBlocking_thenInflated() throws Exception {
+        // Given
+        MockHttpServletRequest request = gzipRequest(gzip("hello".getBytes(StandardCharsets.UTF_8)));
+        AtomicReference<String> body = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            body.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            assertThat(((HttpServletRequest) req).getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        });
+
+        // Then
+        assertThat(body.get()).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("Given gzip body, when read through a read listener, then the listener gets the inflated body")
+    void givenGzipBody_whenReadNonBlocking_thenListenerGetsInflatedBody() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest() {
+            private final ServletInputStream stream = new NonBlockingInputStream(gzip("hello".getBytes(StandardCharsets.UTF_8)));
+
+            @Override
+            public ServletInputStream getInputStream() {
+                return stream;
+            }
+        };
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        AtomicReference<Boolean> allRead = new AtomicReference<>(false);
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    int b;
+                    while (in.isReady() && (b = in.read()) != -1) {
+                        body.write(b);
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allRead.set(in.isFinished());
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    throw new AssertionError(t);
+                }
+            });
+        });
+
+        // Then
+        assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo("hello");
+        assertThat(allRead.get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given body inflating beyond the limit, when read, then answer 413 Payload Too Large")
+    void givenOversizedInflatedBody_whenRead_thenPayloadTooLarge() throws Exception {
+        // Given
+        MockHttpServletRequest request = gzipRequest(gzip(new byte[4096]));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> req.getInputStream().readAllBytes());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+    }
+
+    private static MockHttpServletRequest gzipRequest(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/courses/batch");
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        request.setContent(body);
+        return request;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(body)) {
+            gzip.write(bytes);
+        }
+        return body.toByteArray();
+    }
+
+    /**
+     * Hands out its bytes in two non-blocking chunks, as a container would when they arrive.
+     */
+    private static final class NonBlockingInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream bytes;
+
+        private final int firstChunk;
+
+        private int available;
+
+        private NonBlockingInputStream(byte[] bytes) {
+            this.bytes = new ByteArrayInputStream(bytes);
+            this.firstChunk = bytes.length / 2;
+        }
+
+        @Override
+        public int read() {
+            if (available == 0) {
+                throw new IllegalStateException("Not ready");
+            }
+            available--;
+            return bytes.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (available == 0) {
+                throw new IllegalStateException("Not ready");
+            }
+            int read = bytes.read(b, off, Math.min(len, available));
+            available -= read;
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return bytes.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return available > 0;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            try {
+                available = firstChunk;
+                readListener.onDataAvailable();
+                available = bytes.available();
+                readListener.onDataAvailable();
+                readListener.onAllDataRead();
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.catalogue.backend;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.catalogue.backend.aspect.LoggingAspect;
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.service.CatalogueVersion;
+import com.example.catalogue.backend.service.CourseService;
+import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoggingAspectTest {
+
+    @Mock
+    private CourseService courseService;
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Given a collection result, when traced, then log its size and only the first elements")
+    void givenCollectionResult_whenTraced_thenLogSizeAndFirstElements() {
+        // Given
+        when(courseService.getAllCourses()).thenReturn(CourseTestDataFactory.DATA);
+        CourseService advised = advise(new LoggingAspect(1.0, "", 2));
+
+        // When
+        advised.getAllCourses();
+
+        // Then
+        CourseEntity first = CourseTestDataFactory.DATA.get(0);
+        CourseEntity second = CourseTestDataFactory.DATA.get(1);
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .last().asString()
+                .contains(CourseTestDataFactory.DATA.size() + " elements [" + first + ", " + second + ", ...]")
+                .doesNotContain(CourseTestDataFactory.DATA.get(2).toString());
+    }
+
+    @Test
+    @DisplayName("Given a zero sample rate for a method, when called, then it is not traced while others are")
+    void givenZeroSampleRate_whenCalled_thenNotTraced() {
+        // Given
+        when(courseService.getAllCourses()).thenReturn(CourseTestDataFactory.DATA);
+        when(courseService.getCourseById(1L)).thenReturn(CourseTestDataFactory.DATA.get(0));
+        CourseService advised = advise(new LoggingAspect(1.0, "getAllCourses:0", 3));
+
+        // When
+        advised.getAllCourses();
+        advised.getCourseById(1L);
+
+        // Then
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .hasSize(2)
+                .allMatch(message -> message.contains(".getCourseById"));
+    }
+
+    @Test
+    @DisplayName("Given a service package helper, when called, then it is not traced")
+    void givenServicePackageHelper_whenCalled_thenNotTraced() {
+        // Given
+        CatalogueVersion advised = advise(new CatalogueVersion(), new LoggingAspect(1.0, "", 3));
+
+        // When
+        advised.current();
+        advised.tag();
+
+        // Then
+        assertThat(appender.list).isEmpty();
+    }
+
+    private CourseService advise(LoggingAspect aspect) {
+        return advise(courseService, aspect);
+    }
+
+    private static <T> T advise(T target, LoggingAspect aspect) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(aspect);
+        return proxyFactory.getProxy();
+    }
+}
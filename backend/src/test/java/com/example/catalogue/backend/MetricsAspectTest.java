@@ -0,0 +1,111 @@
+package com.example.catalogue.backend;
+
+import com.example.catalogue.backend.api.rest.CourseRestController;
+import com.example.catalogue.backend.aspect.MetricsAspect;
+import com.example.catalogue.backend.exception.CourseNotFoundException;
+import com.example.catalogue.backend.service.CatalogueVersion;
+import com.example.catalogue.backend.service.CourseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.catalogue.backend.testutil.CourseTestDataFactory;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsAspectTest {
+
+    @Mock
+    private CourseService courseService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CourseService advised;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(courseService);
+        proxyFactory.addAspect(new MetricsAspect(meterRegistry));
+        advised = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Given a successful call, when timed, then record it tagged with operation, outcome and size bucket")
+    void givenSuccessfulCall_whenTimed_thenRecordTaggedTimer() {
+        // Given
+        when(courseService.getAllCourses()).thenReturn(CourseTestDataFactory.DATA);
+
+        // When
+        advised.getAllCourses();
+
+        // Then
+        Timer timer = meterRegistry.find(MetricsAspect.TIMER_NAME)
+                .tags("layer", "service", "operation", "getAllCourses", "outcome", "SUCCESS", "size", "2-10")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given a failing call, when timed, then record it as an error tagged with the exception")
+    void givenFailingCall_whenTimed_thenRecordError() {
+        // Given
+        when(courseService.getCourseById(1L)).thenThrow(new CourseNotFoundException("Course not found"));
+
+        // When
+        assertThatThrownBy(() -> advised.getCourseById(1L)).isInstanceOf(CourseNotFoundException.class);
+
+        // Then
+        Timer timer = meterRegistry.find(MetricsAspect.TIMER_NAME)
+                .tags("operation", "getCourseById", "outcome", "ERROR", "exception", "CourseNotFoundException")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given a streamed REST export, when timed, then record it only once the body has been written")
+    void givenStreamedExport_whenTimed_thenRecordAfterBodyIsWritten() throws Exception {
+        // Given
+        doAnswer(invocation -> null).when(courseService).exportCourses(any());
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new CourseRestController(courseService, new CatalogueVersion(), new ObjectMapper()));
+        proxyFactory.addAspect(new MetricsAspect(meterRegistry));
+        CourseRestController controller = proxyFactory.getProxy();
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = controller.exportCourses(
+                new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
+
+        // Then
+        assertThat(meterRegistry.find(MetricsAspect.TIMER_NAME).tags("operation", "exportCourses").timer()).isNull();
+
+        // When
+        response.getBody().writeTo(new ByteArrayOutputStream());
+
+        // Then
+        Timer timer = meterRegistry.find(MetricsAspect.TIMER_NAME)
+                .tags("layer", "rest", "operation", "exportCourses", "outcome", "SUCCESS")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
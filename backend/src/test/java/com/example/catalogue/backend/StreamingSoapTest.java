@@ -0,0 +1,130 @@
+package com.example.catalogue.backend;
+
+import com.example.catalogue.backend.aspect.MetricsAspect;
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.service.CourseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class StreamingSoapTest {
+
+    private static final String SOAP_ENVELOPE_NS = "http://schemas.xmlsoap.org/soap/envelope/";
+
+    private static final String CATALOGUE_NS = "http://www.example.com/catalogue";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @SpyBean
+    private CourseService courseService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Given an ExportCoursesRequest over HTTP, when sent, then every course is streamed in a well-formed envelope")
+    void givenExportCoursesRequest_whenSentOverHttp_thenEveryCourseIsStreamed() throws Exception {
+        // Given
+        long courseCount = StreamSupport.stream(courseService.getAllCourses().spliterator(), false).count();
+
+        // When
+        ResponseEntity<String> response = send("<cat:exportCoursesRequest/>");
+
+        // Then
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.TEXT_XML)).isTrue();
+        Document envelope = parse(response.getBody());
+        assertThat(envelope.getElementsByTagNameNS(SOAP_ENVELOPE_NS, "Body").getLength()).isEqualTo(1);
+        assertThat(envelope.getElementsByTagNameNS(CATALOGUE_NS, "exportCoursesResponse").getLength()).isEqualTo(1);
+        assertThat(envelope.getElementsByTagNameNS(CATALOGUE_NS, "courses").getLength()).isEqualTo((int) courseCount);
+        assertThat(soapTimerCount("exportCoursesRequest", "SUCCESS")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given the export fails after the first course, when sent over HTTP, then a SOAP fault replaces the unflushed courses and the timer records the error")
+    void givenExportFailingBeforeFlush_whenSentOverHttp_thenFaultIsReturned() throws Exception {
+        // Given
+        CourseEntity course = courseService.getAllCourses().iterator().next();
+        doAnswer(invocation -> {
+            Consumer<CourseEntity> action = invocation.getArgument(0);
+            action.accept(course);
+            throw new IllegalStateException("Cursor closed");
+        }).when(courseService).exportCourses(any());
+
+        // When
+        ResponseEntity<String> response = send("<cat:exportCoursesRequest/>");
+
+        // Then
+        assertThat(response.getStatusCode().is5xxServerError()).isTrue();
+        Document envelope = parse(response.getBody());
+        assertThat(envelope.getElementsByTagNameNS(SOAP_ENVELOPE_NS, "Fault").getLength()).isEqualTo(1);
+        assertThat(envelope.getElementsByTagNameNS(CATALOGUE_NS, "courses").getLength()).isZero();
+        assertThat(soapTimerCount("exportCoursesRequest", "ERROR")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given a GetAllCoursesRequest over HTTP, when sent, then the JAXB response is written in a well-formed envelope")
+    void givenGetAllCoursesRequest_whenSentOverHttp_thenJaxbResponseIsWritten() throws Exception {
+        // When
+        ResponseEntity<String> response = send("<cat:getAllCoursesRequest><cat:pageSize>2</cat:pageSize></cat:getAllCoursesRequest>");
+
+        // Then
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        Document envelope = parse(response.getBody());
+        assertThat(envelope.getElementsByTagNameNS(CATALOGUE_NS, "courses").getLength()).isEqualTo(2);
+        assertThat(envelope.getElementsByTagNameNS(CATALOGUE_NS, "nextPageToken").getLength()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given a GetCourseByIdRequest for a missing course over HTTP, when sent, then a SOAP fault is returned")
+    void givenMissingCourse_whenSentOverHttp_thenFaultIsReturned() throws Exception {
+        // When
+        ResponseEntity<String> response = send("<cat:getCourseByIdRequest><cat:courseId>-1</cat:courseId></cat:getCourseByIdRequest>");
+
+        // Then
+        Document envelope = parse(response.getBody());
+        assertThat(envelope.getElementsByTagNameNS(SOAP_ENVELOPE_NS, "Fault").getLength()).isEqualTo(1);
+    }
+
+    private double soapTimerCount(String operation, String outcome) {
+        return meterRegistry.find(MetricsAspect.TIMER_NAME).tags("layer", "soap", "operation", operation, "outcome", outcome)
+                .timers().stream()
+                .mapToDouble(timer -> timer.count())
+                .sum();
+    }
+
+    private ResponseEntity<String> send(String payload) {
+        String envelope = "<soapenv:Envelope xmlns:soapenv=\"" + SOAP_ENVELOPE_NS + "\" xmlns:cat=\"" + CATALOGUE_NS + "\">"
+                + "<soapenv:Body>" + payload + "</soapenv:Body></soapenv:Envelope>";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_XML);
+        return restTemplate.postForEntity("/ws", new HttpEntity<>(envelope, headers), String.class);
+    }
+
+    private static Document parse(String xml) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.catalogue.benchmarks;
+
+import com.example.catalogue.backend.util.CourseConverter;
+import com.example.catalogue.common.model.Course;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of a page of courses in each representation the REST API negotiates: JSON, CBOR and
+ * Smile. The encoded size of every format is printed when a trial starts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CourseCodecBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private List<Course> courses;
+
+    private ObjectWriter writer;
+
+    private ObjectReader reader;
+
+    private byte[] encoded;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = switch (format) {
+            case "json" -> new ObjectMapper();
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        var listType = mapper.getTypeFactory().constructCollectionType(List.class, Course.class);
+        writer = mapper.writerFor(listType);
+        reader = mapper.readerFor(listType);
+
+        courses = CourseData.courses(size).stream().map(CourseConverter::toModel).toList();
+        encoded = writer.writeValueAsBytes(courses);
+        System.out.printf("%n%s, %d courses: %d bytes (%.1f per course)%n",
+                format, size, encoded.length, (double) encoded.length / size);
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        out.reset();
+        writer.writeValue(out, courses);
+        return out.size();
+    }
+
+    @Benchmark
+    public List<Course> decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
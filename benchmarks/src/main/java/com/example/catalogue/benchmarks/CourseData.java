@@ -0,0 +1,51 @@
+package com.example.catalogue.benchmarks;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic synthetic courses shared by the benchmarks.
+ */
+final class CourseData {
+
+    private static final String[] TOPICS = {"Java", "Python", "Machine Learning", "Web Development", "Spanish",
+            "Data Analysis", "React.js", "Artificial Intelligence", "Kotlin", "Cloud Computing"};
+
+    private static final String[] LEVELS = {"Fundamentals", "for Beginners", "Advanced Topics", "Crash Course", "Bootcamp"};
+
+    private static final String[] CATEGORIES = {"Programming", "Data Science", "Web Development", "Languages",
+            "Artificial Intelligence"};
+
+    private static final String[] AUTHORS = {"John Doe", "Jane Smith", "Mike Johnson", "Alex Lee", "Maria Rodriguez",
+            "Chris Brown", "Emily Wang"};
+
+    private CourseData() {
+    }
+
+    static CourseEntity course(long id) {
+        int i = (int) id;
+        String topic = TOPICS[i % TOPICS.length];
+        return CourseEntity.builder()
+                .id(id)
+                .name(topic + " " + LEVELS[(i / TOPICS.length) % LEVELS.length] + " " + id)
+                .category(CATEGORIES[i % CATEGORIES.length])
+                .rating(1 + i % 5)
+                .description("Course " + id + " about " + topic + ".")
+                .author(AUTHORS[i % AUTHORS.length])
+                .build();
+    }
+
+    static List<CourseEntity> courses(int count) {
+        return courses(1, count);
+    }
+
+    static List<CourseEntity> courses(long firstId, int count) {
+        List<CourseEntity> courses = new ArrayList<>(count);
+        for (long id = firstId; id < firstId + count; id++) {
+            courses.add(course(id));
+        }
+        return courses;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.catalogue.benchmarks;
+
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.event.CourseChangedEvent;
+import com.example.catalogue.backend.search.CourseFuzzyIndex;
+import com.example.catalogue.backend.search.EditDistance;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typo-tolerant name lookup through {@link CourseFuzzyIndex} against measuring the edit distance to every word of
+ * every course. Names and authors are made of generated words, so the vocabulary grows with the catalogue the way
+ * real titles and surnames do; the query is an indexed word with one letter changed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CourseFuzzySearchBenchmark {
+
+    private static final String[] SYLLABLES = {"ka", "lo", "mi", "nu", "re", "sa", "ti", "vo", "ber", "dan", "gor",
+            "hel", "jun", "kor", "lin", "mar", "nor", "pel", "quin", "ros", "sten", "tor", "ul", "ven", "wil", "xan"};
+
+    private static final int MAX_EDITS = 1;
+
+    private static final int LIMIT = 10;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private CourseFuzzyIndex index;
+
+    private List<CourseEntity> courses;
+
+    private String query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new CourseFuzzyIndex(null);
+        courses = new ArrayList<>(rows);
+        for (long id = 1; id <= rows; id++) {
+            CourseEntity course = course(id);
+            courses.add(course);
+            index.onCourseChanged(CourseChangedEvent.saved(course));
+        }
+        String word = courses.get(rows / 2).getName().split(" ")[1];
+        query = word.substring(0, 2) + (word.charAt(2) == 'x' ? 'y' : 'x') + word.substring(3);
+    }
+
+    @Benchmark
+    public List<Long> index() {
+        return index.search(query, "", 0, MAX_EDITS, LIMIT);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int matches = 0;
+        for (CourseEntity course : courses) {
+            String words = (course.getName() + " " + course.getAuthor()).toLowerCase(Locale.ROOT);
+            for (String word : words.split(" ")) {
+                if (EditDistance.levenshtein(query, word) <= MAX_EDITS) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static CourseEntity course(long id) {
+        Random random = new Random(id);
+        return CourseEntity.builder()
+                .id(id)
+                .name(word(random) + " " + word(random) + " " + word(random))
+                .category("Programming")
+                .rating(1 + random.nextInt(5))
+                .description("")
+                .author(word(random) + " " + word(random))
+                .build();
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int syllables = 2 + random.nextInt(3); syllables > 0; syllables--) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.catalogue.benchmarks;
+
+import com.example.catalogue.backend.api.webservice.autogen.GetAllCoursesResponse;
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.util.CourseConverter;
+import com.example.catalogue.backend.util.CourseMapper;
+import com.example.catalogue.common.model.Course;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a page of courses into a response: entity to model conversion, Jackson serialisation of the
+ * REST payload and JAXB marshalling of the SOAP {@link GetAllCoursesResponse}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CoursePayloadBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private List<CourseEntity> entities;
+
+    private List<Course> courses;
+
+    private GetAllCoursesResponse response;
+
+    private ObjectWriter writer;
+
+    private Marshaller marshaller;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Setup
+    public void setUp() throws JAXBException {
+        entities = CourseData.courses(size);
+        courses = entities.stream().map(CourseConverter::toModel).toList();
+        response = new GetAllCoursesResponse();
+        entities.stream().map(CourseMapper.INSTANCE::toXml).forEach(response.getCourses()::add);
+
+        writer = new ObjectMapper().writerFor(new ObjectMapper().getTypeFactory()
+                .constructCollectionType(List.class, Course.class));
+        marshaller = JAXBContext.newInstance(GetAllCoursesResponse.class).createMarshaller();
+    }
+
+    @Benchmark
+    public List<Course> converterToModels() {
+        List<Course> result = new ArrayList<>(entities.size());
+        for (CourseEntity entity : entities) {
+            result.add(CourseConverter.toModel(entity));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int jacksonWriteCourses() throws IOException {
+        out.reset();
+        writer.writeValue(out, courses);
+        return out.size();
+    }
+
+    @Benchmark
+    public int jaxbMarshalGetAllCoursesResponse() throws JAXBException {
+        out.reset();
+        marshaller.marshal(response, out);
+        return out.size();
+    }
+}
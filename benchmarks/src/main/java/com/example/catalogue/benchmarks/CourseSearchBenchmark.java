@@ -0,0 +1,82 @@
+package com.example.catalogue.benchmarks;
+
+import com.example.catalogue.backend.BackendApplication;
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.repository.CourseRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CourseRepository#searchSimilarCourses} against an in-memory H2 catalogue of {@code rows} courses.
+ * The backend context is started without a web server, the table is refilled with {@link CourseData} rows over
+ * plain JDBC batches, and the repository is then queried the way the service does it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CourseSearchBenchmark {
+
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private CourseRepository courseRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:course_bench_" + rows + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "spring.cache.type=none")
+                .run();
+        courseRepository = context.getBean(CourseRepository.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("delete from COURSES");
+        for (int from = 1; from <= rows; from += INSERT_BATCH_SIZE) {
+            List<Object[]> batch = CourseData.courses(from, Math.min(INSERT_BATCH_SIZE, rows - from + 1)).stream()
+                    .map(course -> new Object[]{course.getId(), course.getName(), course.getCategory(),
+                            course.getRating(), course.getDescription(), course.getAuthor(), 0L})
+                    .toList();
+            jdbcTemplate.batchUpdate(
+                    "insert into COURSES (ID, NAME, CATEGORY, RATING, DESCRIPTION, AUTHOR, VERSION) values (?, ?, ?, ?, ?, ?, ?)",
+                    batch);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Broad search, matches a tenth of the catalogue that has to be materialised.
+     */
+    @Benchmark
+    public Iterable<CourseEntity> searchMatching() {
+        return courseRepository.searchSimilarCourses("java", "programming", 3);
+    }
+
+    /**
+     * Search without hits, isolates the cost of scanning the table.
+     */
+    @Benchmark
+    public Iterable<CourseEntity> searchWithoutMatches() {
+        return courseRepository.searchSimilarCourses("haskell", "", 1);
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.catalogue.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.example.catalogue.backend.aspect.LoggingAspect;
+import com.example.catalogue.backend.entity.CourseEntity;
+import com.example.catalogue.backend.search.CourseSuggester;
+import com.example.catalogue.backend.service.CourseCursor;
+import com.example.catalogue.backend.service.CourseService;
+import com.example.catalogue.backend.service.CourseSort;
+import com.example.catalogue.backend.service.DuplicatePolicy;
+import com.example.catalogue.common.model.CourseFacets;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Overhead {@link LoggingAspect} adds to a service call, with the aspect's logger switched off and on and with
+ * every or only some calls sampled. The service is an in-memory stub returning {@code size} courses, log output
+ * is encoded but discarded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingAspectBenchmark {
+
+    @Param({"OFF", "INFO"})
+    public String level;
+
+    @Param({"10", "1000"})
+    public int size;
+
+    @Param({"1.0", "0.01"})
+    public double sampleRate;
+
+    private CourseService target;
+
+    private CourseService advised;
+
+    @Setup
+    public void setUp() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(Level.WARN);
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d %-5level [%thread] %logger - %msg%n");
+        encoder.start();
+        sink.setContext(loggerContext);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+
+        Logger aspectLogger = loggerContext.getLogger(LoggingAspect.class);
+        aspectLogger.detachAndStopAllAppenders();
+        aspectLogger.setAdditive(false);
+        aspectLogger.addAppender(sink);
+        aspectLogger.setLevel(Level.toLevel(level));
+
+        target = new StubCourseService(CourseData.courses(size));
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new LoggingAspect(sampleRate, "", 3));
+        advised = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public Iterable<CourseEntity> direct() {
+        return target.searchSimilarCourses("java", "programming", 3);
+    }
+
+    @Benchmark
+    public Iterable<CourseEntity> advised() {
+        return advised.searchSimilarCourses("java", "programming", 3);
+    }
+
+    private record StubCourseService(List<CourseEntity> courses) implements CourseService {
+
+        @Override
+        public Iterable<CourseEntity> getAllCourses() {
+            return courses;
+        }
+
+        @Override
+        public Slice<CourseEntity> getCoursesAfter(Long afterId, Integer limit) {
+            return new SliceImpl<>(courses);
+        }
+
+        @Override
+        public Slice<CourseEntity> getCoursesAfter(CourseSort sort, CourseCursor after, Integer limit) {
+            return new SliceImpl<>(courses);
+        }
+
+        @Override
+        public long countCourses() {
+            return courses.size();
+        }
+
+        @Override
+        public void exportCourses(Consumer<CourseEntity> action) {
+            courses.forEach(action);
+        }
+
+        @Override
+        public CourseEntity getCourseById(Long courseId) {
+            return courses.get(0);
+        }
+
+        @Override
+        public Iterable<CourseEntity> searchSimilarCourses(String name, String category, int rating) {
+            return courses;
+        }
+
+        @Override
+        public Slice<CourseEntity> searchSimilarCourses(String name, String category, int rating, CourseSort sort, CourseCursor after, Integer limit) {
+            return new SliceImpl<>(courses);
+        }
+
+        @Override
+        public long countSimilarCourses(String name, String category, int rating) {
+            return courses.size();
+        }
+
+        @Override
+        public List<CourseEntity> searchCoursesByText(String text, int rating, Integer limit) {
+            return courses;
+        }
+
+        @Override
+        public List<CourseEntity> searchSimilarCoursesFuzzy(String name, String category, int rating, int maxEdits, Integer limit) {
+            return courses;
+        }
+
+        @Override
+        public List<CourseEntity> getRelatedCourses(Long courseId, Integer limit) {
+            return courses;
+        }
+
+        @Override
+        public List<CourseEntity> getTopCourses(String category, Integer limit) {
+            return courses;
+        }
+
+        @Override
+        public CourseFacets getFacets(String name) {
+            return new CourseFacets(courses.size(), Map.of(), Map.of());
+        }
+
+        @Override
+        public List<String> suggest(CourseSuggester.Field field, String prefix, Integer limit) {
+            return List.of();
+        }
+
+        @Override
+        public CourseEntity createCourse(CourseEntity course) {
+            return course;
+        }
+
+        @Override
+        public CourseEntity createCourse(CourseEntity course, DuplicatePolicy duplicatePolicy) {
+            return course;
+        }
+
+        @Override
+        public List<Long> createCourses(List<CourseEntity> courses) {
+            return List.of();
+        }
+
+        @Override
+        public List<Long> createCourses(List<CourseEntity> courses, DuplicatePolicy duplicatePolicy) {
+            return List.of();
+        }
+
+        @Override
+        public CourseEntity updateCourse(Long courseId, CourseEntity course) {
+            return course;
+        }
+
+        @Override
+        public void deleteCourseById(Long courseId) {
+        }
+
+        @Override
+        public void deleteCourses() {
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.catalogue.common.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Number of courses per category, most populated first, and per rating, best first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseFacets {
+
+    private long total;
+
+    private Map<String, Long> categories;
+
+    private Map<Integer, Long> ratings;
+
+}
@@ -0,0 +1,67 @@
+package com.example.catalogue.frontend.client;
+
+import com.example.catalogue.common.model.Course;
+import feign.FeignException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Read side of {@link CourseFeignClient} that keeps the last response of every list and search call together
+ * with its ETag and revalidates it with {@code If-None-Match}, so an unchanged catalogue costs a 304 instead of
+ * a full course list. At most {@code catalogue.feign.conditional-cache.max-entries} responses are kept.
+ */
+@Component
+public class ConditionalCourseClient {
+
+    private final CourseFeignClient courseFeignClient;
+
+    private final Map<String, ResponseEntity<List<Course>>> responses;
+
+    @Autowired
+    public ConditionalCourseClient(CourseFeignClient courseFeignClient,
+                                   @Value("${catalogue.feign.conditional-cache.max-entries:256}") int maxEntries) {
+        this.courseFeignClient = courseFeignClient;
+        this.responses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ResponseEntity<List<Course>>> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public ResponseEntity<List<Course>> getAllCourses(String after) {
+        return conditional("all:" + after, etag -> courseFeignClient.getAllCourses(after, etag));
+    }
+
+    public List<Course> searchSimilarCourses(String name, String category, int rating) {
+        return conditional("search:" + name + '\0' + category + '\0' + rating,
+                etag -> courseFeignClient.searchSimilarCourses(name, category, rating, etag)).getBody();
+    }
+
+    private ResponseEntity<List<Course>> conditional(String key, Function<String, ResponseEntity<List<Course>>> call) {
+        ResponseEntity<List<Course>> cached = responses.get(key);
+        try {
+            ResponseEntity<List<Course>> response = call.apply(cached == null ? null : cached.getHeaders().getETag());
+            if (response.getHeaders().getETag() != null) {
+                responses.put(key, response);
+            } else {
+                responses.remove(key);
+            }
+            return response;
+        } catch (FeignException e) {
+            if (e.status() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+                return cached;
+            }
+            throw e;
+        }
+    }
+}
@@ -2,13 +2,20 @@ package com.example.catalogue.frontend.client;
 
 import com.example.catalogue.common.model.Course;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @FeignClient(name = "courseFeignClient", url = "${backend.address}/courses")
 public interface CourseFeignClient {
 
+    String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @GetMapping("/")
-    Iterable<Course> getAllCourses();
+    ResponseEntity<List<Course>> getAllCourses(@RequestParam(value = "after", required = false) String after,
+                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 
     @GetMapping("/{id}")
     Course getCourseById(@PathVariable("id") Long courseId);
@@ -26,5 +33,6 @@ public interface CourseFeignClient {
     void deleteCourses();
 
     @GetMapping("/search")
-    Iterable<Course> searchSimilarCourses(@RequestParam String name, @RequestParam String category, @RequestParam int rating);
+    ResponseEntity<List<Course>> searchSimilarCourses(@RequestParam String name, @RequestParam String category, @RequestParam int rating,
+                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 }
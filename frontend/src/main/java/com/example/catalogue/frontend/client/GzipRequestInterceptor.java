@@ -0,0 +1,45 @@
+package com.example.catalogue.frontend.client;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzips request bodies of at least {@code minSize} bytes. Spring Cloud OpenFeign's own request compression only
+ * sets the {@code Content-Encoding} header and leaves the body as is.
+ */
+public class GzipRequestInterceptor implements RequestInterceptor {
+
+    private static final String GZIP = "gzip";
+
+    private final int minSize;
+
+    public GzipRequestInterceptor(int minSize) {
+        this.minSize = minSize;
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        byte[] body = template.body();
+        if (body == null || body.length < minSize || template.headers().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return;
+        }
+        template.body(gzip(body), null);
+        template.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.catalogue.frontend.config;
+
+import com.example.catalogue.frontend.client.GzipRequestInterceptor;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import feign.RequestInterceptor;
+import feign.codec.Encoder;
+import feign.form.spring.SpringFormEncoder;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.FeignEncoderProperties;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Additions to the pooled Apache HttpClient 5 transport Spring Cloud OpenFeign sets up from
+ * {@code spring.cloud.openfeign.httpclient.*}: gzip request bodies, connection pool metrics
+ * ({@code httpcomponents.httpclient.pool.*}) and a binary payload format.
+ * <p>
+ * Request bodies are encoded as {@code catalogue.feign.media-type} (Smile by default, {@code application/cbor}
+ * also works and {@code application/json} restores plain JSON) and the same format is asked for in responses,
+ * with JSON as the fallback.
+ */
+@Configuration
+public class FeignClientConfig {
+
+    @Bean
+    GzipRequestInterceptor gzipRequestInterceptor(@Value("${catalogue.feign.compression.request.min-size:2048}") int minSize) {
+        return new GzipRequestInterceptor(minSize);
+    }
+
+    @Bean
+    MeterBinder feignConnectionPoolMetrics(HttpClientConnectionManager connectionManager) {
+        return registry -> {
+            if (connectionManager instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "backend").bindTo(registry);
+            }
+        };
+    }
+
+    @Bean
+    MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    Encoder feignEncoder(ObjectFactory<HttpMessageConverters> messageConverters,
+                         FeignEncoderProperties encoderProperties,
+                         ObjectProvider<HttpMessageConverterCustomizer> customizers,
+                         @Value("${catalogue.feign.media-type:application/x-jackson-smile}") MediaType mediaType) {
+        SpringEncoder delegate = new SpringEncoder(new SpringFormEncoder(), messageConverters, encoderProperties, customizers);
+        return (object, bodyType, template) -> {
+            if (!template.headers().containsKey(HttpHeaders.CONTENT_TYPE)) {
+                template.header(HttpHeaders.CONTENT_TYPE, mediaType.toString());
+            }
+            delegate.encode(object, bodyType, template);
+        };
+    }
+
+    @Bean
+    RequestInterceptor acceptRequestInterceptor(@Value("${catalogue.feign.media-type:application/x-jackson-smile}") MediaType mediaType) {
+        String accept = MediaType.APPLICATION_JSON.equals(mediaType)
+                ? mediaType.toString()
+                : mediaType + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.5";
+        return template -> {
+            if (!template.headers().containsKey(HttpHeaders.ACCEPT)) {
+                template.header(HttpHeaders.ACCEPT, accept);
+            }
+        };
+    }
+}
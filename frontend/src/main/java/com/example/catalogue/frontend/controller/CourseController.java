@@ -1,5 +1,6 @@
 package com.example.catalogue.frontend.controller;
 
+import com.example.catalogue.frontend.client.ConditionalCourseClient;
 import com.example.catalogue.frontend.client.CourseFeignClient;
 import com.example.catalogue.common.model.Course;
 import jakarta.validation.Valid;
@@ -10,6 +11,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 
 @Controller
@@ -17,9 +19,12 @@ public class CourseController {
 
     private final CourseFeignClient courseFeignClient;
 
+    private final ConditionalCourseClient conditionalCourseClient;
+
     @Autowired
-    public CourseController(CourseFeignClient courseFeignClient) {
+    public CourseController(CourseFeignClient courseFeignClient, ConditionalCourseClient conditionalCourseClient) {
         this.courseFeignClient = courseFeignClient;
+        this.conditionalCourseClient = conditionalCourseClient;
     }
 
     @GetMapping("/")
@@ -28,8 +33,10 @@ public class CourseController {
     }
 
     @GetMapping("/index")
-    public String index(Model model) {
-        model.addAttribute("courses", courseFeignClient.getAllCourses());
+    public String index(Model model, @RequestParam(required = false) String after) {
+        var page = conditionalCourseClient.getAllCourses(after);
+        model.addAttribute("courses", page.getBody());
+        model.addAttribute("nextCursor", page.getHeaders().getFirst(CourseFeignClient.NEXT_CURSOR_HEADER));
         model.addAttribute("searchModel", new Course());
         return "index";
     }
@@ -72,7 +79,7 @@ public class CourseController {
 
     @PostMapping("/search")
     public String search(Model model, Course course) {
-        var result = courseFeignClient.searchSimilarCourses(course.getName(), course.getCategory(), course.getRating());
+        var result = conditionalCourseClient.searchSimilarCourses(course.getName(), course.getCategory(), course.getRating());
         model.addAttribute("courses", result);
         return "index";
     }
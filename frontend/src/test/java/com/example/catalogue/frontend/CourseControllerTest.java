@@ -14,6 +14,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -44,7 +45,7 @@ class CourseControllerTest {
 
     @BeforeEach
     void setUp() {
-        when(restClient.getAllCourses()).thenReturn(getTestData());
+        when(restClient.getAllCourses(null, null)).thenReturn(ResponseEntity.ok(getTestData()));
     }
 
     @Test
@@ -60,15 +61,38 @@ class CourseControllerTest {
                 .andExpect(model().attributeExists("searchModel"))
                 .andExpect(model().attribute("courses", hasSize(getTestData().size())))
                 .andExpect(model().attribute("courses", containsInAnyOrder(getTestData().toArray())))
+                .andExpect(model().attribute("nextCursor", nullValue()))
                 .andExpect(model().attributeHasNoErrors());
 
         // And: Verify that the getAllCourses method of the restClient is called exactly once
-        verify(restClient, times(1)).getAllCourses();
+        verify(restClient, times(1)).getAllCourses(null, null);
 
         // And: Verify that no other interactions were made with the restClient
         verifyNoMoreInteractions(restClient);
     }
 
+    @Test
+    @DisplayName("GET /index?after= - Returns Index Template with Requested Page and Next Cursor")
+    void getIndexPageWithCursor_ReturnsIndexTemplateWithPageAndNextCursor() throws Exception {
+        // Given
+        var page = getTestData().subList(0, 2);
+        when(restClient.getAllCourses("cursor-1", null)).thenReturn(ResponseEntity.ok()
+                .header(CourseFeignClient.NEXT_CURSOR_HEADER, "cursor-2")
+                .body(page));
+
+        // When
+        var resultActions = mockMvc.perform(get("/index").param("after", "cursor-1"));
+
+        // Then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(view().name("index"))
+                .andExpect(model().attribute("courses", contains(page.toArray())))
+                .andExpect(model().attribute("nextCursor", "cursor-2"))
+                .andExpect(content().string(containsString("/index?after=cursor-2")));
+        verify(restClient, times(1)).getAllCourses("cursor-1", null);
+    }
+
     @Test
     @DisplayName("GET /addcourse - Returns Add Course Template")
     void getAddCourseForm_ReturnsAddCourseTemplate() throws Exception {
@@ -218,8 +242,8 @@ class CourseControllerTest {
     void searchCourses_ReturnsIndexTemplateWithMatchingCourses(String name, String category, int rating) throws Exception {
         // Given
         var searchModel = Course.builder().name(name).category(category).rating(rating).build();
-        when(restClient.searchSimilarCourses(searchModel.getName(), searchModel.getCategory(), searchModel.getRating()))
-                .thenReturn(Collections.emptyList());
+        when(restClient.searchSimilarCourses(searchModel.getName(), searchModel.getCategory(), searchModel.getRating(), null))
+                .thenReturn(ResponseEntity.ok(Collections.emptyList()));
 
         // When
         var resultActions = mockMvc.perform(post("/search")
@@ -233,7 +257,7 @@ class CourseControllerTest {
                 .andExpect(view().name("index"))
                 .andExpect(model().attributeExists("courses"));
         verify(restClient, times(1))
-                .searchSimilarCourses(searchModel.getName(), searchModel.getCategory(), searchModel.getRating());
+                .searchSimilarCourses(searchModel.getName(), searchModel.getCategory(), searchModel.getRating(), null);
     }
 
     static Stream<Arguments> searchTestParameters() {
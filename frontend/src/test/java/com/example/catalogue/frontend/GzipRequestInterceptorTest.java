@@ -0,0 +1,50 @@
+package com.example.catalogue.frontend;
+
+import com.example.catalogue.frontend.client.GzipRequestInterceptor;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GzipRequestInterceptorTest {
+
+    private final GzipRequestInterceptor interceptor = new GzipRequestInterceptor(16);
+
+    @Test
+    @DisplayName("Given a body above the threshold, when intercepted, then gzip it and set the content encoding")
+    void givenLargeBody_whenIntercepted_thenGzipBody() throws IOException {
+        // Given
+        String json = "{\"name\":\"Java Programming 101\",\"category\":\"Programming\"}";
+        RequestTemplate template = new RequestTemplate().body(json);
+
+        // When
+        interceptor.apply(template);
+
+        // Then
+        assertThat(template.headers().get(HttpHeaders.CONTENT_ENCODING)).containsExactly("gzip");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(template.body()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(json);
+        }
+    }
+
+    @Test
+    @DisplayName("Given a body below the threshold, when intercepted, then leave it uncompressed")
+    void givenSmallBody_whenIntercepted_thenLeaveBodyAsIs() {
+        // Given
+        RequestTemplate template = new RequestTemplate().body("{}");
+
+        // When
+        interceptor.apply(template);
+
+        // Then
+        assertThat(template.headers()).doesNotContainKey(HttpHeaders.CONTENT_ENCODING);
+        assertThat(template.body()).isEqualTo("{}".getBytes(StandardCharsets.UTF_8));
+    }
+}